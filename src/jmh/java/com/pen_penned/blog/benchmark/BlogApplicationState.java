@@ -0,0 +1,95 @@
+package com.pen_penned.blog.benchmark;
+
+import com.pen_penned.blog.BlogPlatformApplication;
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.User;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The application without its web server, started once per fork against the dev database.
+ * The dev profile recreates the schema on start, so the schema is only validated here and the
+ * existing data survives. Benchmarks seed their own posts under a throwaway author, which is
+ * removed with its posts on tear down.
+ */
+@State(Scope.Benchmark)
+public class BlogApplicationState {
+
+    private ConfigurableApplicationContext context;
+    private Long authorId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BlogPlatformApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dev")
+                .properties("spring.jpa.hibernate.ddl-auto=validate")
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (authorId != null) {
+            JdbcTemplate jdbcTemplate = bean(JdbcTemplate.class);
+            String posts = "SELECT post_id FROM posts WHERE user_id = ?";
+            jdbcTemplate.update("DELETE FROM post_tags WHERE post_id IN (" + posts + ")", authorId);
+            jdbcTemplate.update("DELETE FROM posts WHERE user_id = ?", authorId);
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", authorId);
+        }
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Persists published posts with a few tags each and returns them detached.
+     */
+    public List<Post> seedPosts(int count, int contentParagraphs) {
+        EntityManager entityManager = bean(EntityManager.class);
+        return bean(TransactionTemplate.class).execute(status -> {
+            User author = entityManager.find(User.class, authorId());
+            List<Post> posts = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Post post = Post.builder()
+                        .title("Benchmark post " + i)
+                        .content("A paragraph of benchmark content that reads like a post.\n\n".repeat(contentParagraphs))
+                        .published(true)
+                        .tags(new ArrayList<>(List.of("benchmark", "tag-" + (i % 20))))
+                        .author(author)
+                        .build();
+                post.refreshContentStats();
+                entityManager.persist(post);
+                posts.add(post);
+            }
+            return posts;
+        });
+    }
+
+    private Long authorId() {
+        if (authorId == null) {
+            EntityManager entityManager = bean(EntityManager.class);
+            authorId = bean(TransactionTemplate.class).execute(status -> {
+                User author = User.createUser("Bench", "Author",
+                        "bench-" + UUID.randomUUID() + "@example.com", "secret");
+                entityManager.persist(author);
+                return author.getId();
+            });
+        }
+        return authorId;
+    }
+}
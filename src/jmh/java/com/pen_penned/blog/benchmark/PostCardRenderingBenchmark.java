@@ -0,0 +1,69 @@
+package com.pen_penned.blog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pen_penned.blog.cache.PostCardFragmentCache;
+import com.pen_penned.blog.config.JacksonConfig;
+import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
+import com.pen_penned.blog.util.PageTotals;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A feed page of 50 cards written by a plain ObjectMapper against one with the card fragment
+ * module, as configured by {@link JacksonConfig}. The fragment cache is warm, as it is for a
+ * feed page that was served before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostCardRenderingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper fragmentMapper;
+    private PageResponse<PostSummaryResponse> page;
+
+    @Setup
+    public void setup() {
+        plainMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        PostCardFragmentCache fragmentCache = new PostCardFragmentCache(new SimpleMeterRegistry(),
+                DataSize.ofMegabytes(32), Duration.ofMinutes(10));
+        fragmentMapper = Jackson2ObjectMapperBuilder.json().build();
+        fragmentMapper.registerModule(new JacksonConfig().postCardModule(fragmentCache));
+
+        List<PostSummaryResponse> cards = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            PostSummaryResponse card = new PostSummaryResponse(id, "Post card number " + id, "post-card-" + id,
+                    "An excerpt long enough to look like the start of a real post. ".repeat(4), 850, 4,
+                    "https://example.com/covers/" + id + ".jpg", true, 7L, "Bench", "Author", 12,
+                    LocalDateTime.now(), LocalDateTime.now(), 3L);
+            card.setTags(new ArrayList<>(List.of("java", "spring", "performance")));
+            cards.add(card);
+        }
+        page = new PageResponse<>(cards, 0, PAGE_SIZE, null, null, false, PageTotals.NONE);
+    }
+
+    @Benchmark
+    public byte[] plainObjectMapper() throws JsonProcessingException {
+        return plainMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cachedFragments() throws JsonProcessingException {
+        return fragmentMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,111 @@
+package com.pen_penned.blog.benchmark;
+
+import com.pen_penned.blog.util.ContentDelta;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revision history stored the way PostRevisionService stores it, a snapshot every ten revisions
+ * and line deltas in between, against a plain delta chain and full copies. Storage per edit is
+ * printed once per trial; the benchmarks measure rebuilding revision N from what is stored.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostRevisionBenchmark {
+
+    private static final int REVISIONS = 100;
+    private static final int PARAGRAPHS = 40;
+
+    // Same default as app.posts.revisions.snapshot-interval
+    private static final int SNAPSHOT_INTERVAL = 10;
+
+    @Param({"2", "10", "50", "100"})
+    public int revisionNumber;
+
+    // Index 0 is revision 1
+    private final List<String> fullCopies = new ArrayList<>();
+    private final List<String> chainDeltas = new ArrayList<>();
+    private final List<String> storedBodies = new ArrayList<>();
+    private final List<Boolean> snapshots = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> paragraphs = new ArrayList<>();
+        for (int i = 0; i < PARAGRAPHS; i++) {
+            paragraphs.add("Paragraph " + i + ": "
+                    + "Lorem ipsum dolor sit amet, consectetur adipiscing elit. ".repeat(6));
+        }
+
+        String previous = null;
+        for (int revision = 1; revision <= REVISIONS; revision++) {
+            // Each edit rewrites one paragraph, the typical save of a post being worked on
+            paragraphs.set((revision * 7) % PARAGRAPHS,
+                    "Edited in revision " + revision + ". " + "Sed do eiusmod tempor. ".repeat(8));
+            String content = String.join("\n", paragraphs);
+
+            chainDeltas.add(previous == null ? content : ContentDelta.diff(previous, content));
+
+            boolean snapshot = previous == null || (revision - 1) % SNAPSHOT_INTERVAL == 0;
+            String body = snapshot ? content : ContentDelta.diff(previous, content);
+            if (!snapshot && body.length() >= content.length()) {
+                snapshot = true;
+                body = content;
+            }
+            storedBodies.add(body);
+            snapshots.add(snapshot);
+            fullCopies.add(content);
+            previous = content;
+        }
+
+        long fullBytes = fullCopies.stream().mapToLong(String::length).sum();
+        long storedBytes = storedBodies.stream().mapToLong(String::length).sum();
+        long deltaBytes = 0;
+        int deltas = 0;
+        for (int i = 0; i < REVISIONS; i++) {
+            if (!snapshots.get(i)) {
+                deltaBytes += storedBodies.get(i).length();
+                deltas++;
+            }
+        }
+        System.out.printf("%nStored chars for %d revisions: full copies=%d, snapshots+deltas=%d "
+                        + "(%.0f%%), average delta per edit=%d vs %d per full copy%n",
+                REVISIONS, fullBytes, storedBytes, 100.0 * storedBytes / fullBytes,
+                deltas == 0 ? 0 : deltaBytes / deltas, fullBytes / REVISIONS);
+    }
+
+    @Benchmark
+    public String fullCopy() {
+        return fullCopies.get(revisionNumber - 1);
+    }
+
+    // What getRevisionContent does: the nearest snapshot, then at most nine deltas
+    @Benchmark
+    public String fromSnapshot() {
+        int start = revisionNumber - 1;
+        while (!snapshots.get(start)) {
+            start--;
+        }
+
+        String content = storedBodies.get(start);
+        for (int i = start + 1; i < revisionNumber; i++) {
+            content = ContentDelta.apply(content, storedBodies.get(i));
+        }
+        return content;
+    }
+
+    // Without snapshots every read replays the history from revision 1
+    @Benchmark
+    public String fromFirstRevision() {
+        String content = chainDeltas.get(0);
+        for (int i = 1; i < revisionNumber; i++) {
+            content = ContentDelta.apply(content, chainDeltas.get(i));
+        }
+        return content;
+    }
+}
@@ -0,0 +1,60 @@
+package com.pen_penned.blog.benchmark;
+
+import com.pen_penned.blog.cache.PostSlugCache;
+import com.pen_penned.blog.dto.response.PostDetailsResponse;
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.service.PostService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The slug route against the id route, each as the controller runs it: resolve the stamp, then
+ * read the details, which the details cache serves after the first call. The uncached variant
+ * drops the slug before every call, so it pays the index-only slug lookup each time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostSlugLookupBenchmark {
+
+    private static final int POSTS = 1000;
+
+    private PostService postService;
+    private PostSlugCache postSlugCache;
+    private List<Post> posts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup(BlogApplicationState application) {
+        postService = application.bean(PostService.class);
+        postSlugCache = application.bean(PostSlugCache.class);
+        posts = application.seedPosts(POSTS, 20);
+    }
+
+    @Benchmark
+    public PostDetailsResponse byId() {
+        return postService.getPostById(postService.getPostStamp(nextPost().getId()));
+    }
+
+    @Benchmark
+    public PostDetailsResponse bySlug() {
+        return postService.getPostById(postService.getPostStampBySlug(nextPost().getSlug()));
+    }
+
+    @Benchmark
+    public PostDetailsResponse bySlugUncached() {
+        String slug = nextPost().getSlug();
+        postSlugCache.invalidate(slug);
+        return postService.getPostById(postService.getPostStampBySlug(slug));
+    }
+
+    private Post nextPost() {
+        next = (next + 1) % POSTS;
+        return posts.get(next);
+    }
+}
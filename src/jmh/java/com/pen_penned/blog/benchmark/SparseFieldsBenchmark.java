@@ -0,0 +1,61 @@
+package com.pen_penned.blog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pen_penned.blog.cache.PostPageStamp;
+import com.pen_penned.blog.service.PostService;
+import com.pen_penned.blog.util.PageTotals;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A page of posts read and serialized in full, as summaries, and with {@code fields=id,title,slug}.
+ * Latency covers the query and Jackson; the payload size of each variant is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SparseFieldsBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private PostService postService;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setup(BlogApplicationState application) throws JsonProcessingException {
+        postService = application.bean(PostService.class);
+        objectMapper = application.bean(ObjectMapper.class);
+        application.seedPosts(500, 40);
+
+        System.out.printf("%nPayload bytes per page of %d: full=%d, summary=%d, fields=%d%n", PAGE_SIZE,
+                fullPage().length, summaryPage().length, sparsePage().length);
+    }
+
+    @Benchmark
+    public byte[] fullPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                postService.getAllPosts(stampPage()));
+    }
+
+    @Benchmark
+    public byte[] summaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                postService.getPostSummaries(stampPage()));
+    }
+
+    @Benchmark
+    public byte[] sparsePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(
+                postService.getPostFields(stampPage(), "id,title,slug"));
+    }
+
+    // The controller reads the stamps first for the ETag, so every variant pays for them
+    private PostPageStamp stampPage() {
+        return postService.getPostPageStamp(0, PAGE_SIZE, "createdAt", "desc", PageTotals.NONE);
+    }
+}
@@ -0,0 +1,60 @@
+package com.pen_penned.blog.cache;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * The columns that change whenever a post's representation goes stale: the optimistic lock
+ * version and {@code updatedAt} (post edits), the denormalized comment count and
+ * {@code activityAt} (comment and image writes).
+ * <p>
+ * Used both to validate cached post details and as the HTTP validator for post resources. The
+ * slug is carried along so slug lookups can verify a cached slug to id mapping for free.
+ */
+public record PostCacheStamp(Long postId, String slug, long version, int commentCount,
+                             LocalDateTime updatedAt, LocalDateTime activityAt) {
+
+    public String eTag() {
+        return "\"" + validator() + "\"";
+    }
+
+    // Another representation of the same post, e.g. with rendered HTML, needs its own tag
+    public String eTag(String representation) {
+        return "\"" + validator() + "-" + representation + "\"";
+    }
+
+    private String validator() {
+        return postId + "-" + version + "-" + commentCount + "-" + toInstant(activityAt).toEpochMilli();
+    }
+
+    public Instant lastModified() {
+        return updatedAt.isAfter(activityAt) ? toInstant(updatedAt) : toInstant(activityAt);
+    }
+
+    /**
+     * Strong ETag for a whole page of posts. Anything else that shapes the response body, such
+     * as the view or the total count, has to be passed as a discriminator. Pages get no
+     * Last-Modified, since a deleted or re-sorted post changes a page without moving any
+     * timestamp forward.
+     */
+    public static String eTagOf(List<PostCacheStamp> stamps, Object... discriminators) {
+        StringBuilder source = new StringBuilder();
+        for (Object discriminator : discriminators) {
+            source.append(discriminator).append('|');
+        }
+        for (PostCacheStamp stamp : stamps) {
+            source.append(stamp.eTag());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Timestamps are stored as UTC
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC);
+    }
+}
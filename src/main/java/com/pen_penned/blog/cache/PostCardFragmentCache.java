@@ -0,0 +1,62 @@
+package com.pen_penned.blog.cache;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Serialized JSON of post cards, so feed pages splice cached bytes instead of running every
+ * card through Jackson again.
+ * <p>
+ * Keyed by post id, version and comment count, which together cover every card field except
+ * the author's name; the write TTL bounds that. The cache is bounded by the UTF-8 size of the
+ * stored fragments and reports under {@code cache=postCards}.
+ */
+@Component
+public class PostCardFragmentCache {
+
+    private record Key(Long postId, Long version, Integer commentCount) {
+    }
+
+    private final Cache<Key, SerializedString> cache;
+
+    public PostCardFragmentCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.post-cards.maximum-weight:32MB}") DataSize maximumWeight,
+            @Value("${app.cache.post-cards.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Key key, SerializedString json) -> json.asUnquotedUTF8().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postCards");
+    }
+
+    public SerializedString get(PostSummaryResponse card, Function<PostSummaryResponse, String> render) {
+        // Cards built outside the summary projection carry no version and are not cached
+        if (card.getVersion() == null) {
+            return new SerializedString(render.apply(card));
+        }
+
+        Key key = new Key(card.getId(), card.getVersion(), card.getCommentCount());
+        return cache.get(key, k -> new SerializedString(render.apply(card)));
+    }
+
+    // For writes that change card fields without bumping the version; walks every entry, so keep it to batch jobs
+    public void evict(Collection<Long> postIds) {
+        Set<Long> ids = Set.copyOf(postIds);
+        cache.asMap().keySet().removeIf(key -> ids.contains(key.postId()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.pen_penned.blog.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes a post card as a raw JSON fragment from {@link PostCardFragmentCache}, falling back to
+ * the regular bean serializer to render it on a miss.
+ */
+public class PostCardSerializer extends StdSerializer<PostSummaryResponse>
+        implements ResolvableSerializer, ContextualSerializer {
+
+    private final JsonSerializer<Object> beanSerializer;
+    private final PostCardFragmentCache fragmentCache;
+
+    public PostCardSerializer(JsonSerializer<Object> beanSerializer, PostCardFragmentCache fragmentCache) {
+        super(PostSummaryResponse.class);
+        this.beanSerializer = beanSerializer;
+        this.fragmentCache = fragmentCache;
+    }
+
+    @Override
+    public void serialize(PostSummaryResponse card, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        try {
+            gen.writeRawValue(fragmentCache.get(card, c -> render(c, gen, provider)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private String render(PostSummaryResponse card, JsonGenerator gen, SerializerProvider provider) {
+        JsonFactory factory = gen.getCodec() != null ? gen.getCodec().getFactory() : new JsonFactory();
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator cardGenerator = factory.createGenerator(writer)) {
+            beanSerializer.serialize(card, cardGenerator, provider);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    // The wrapped bean serializer still has to be resolved and contextualized by Jackson
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        if (beanSerializer instanceof ContextualSerializer contextual) {
+            JsonSerializer<?> contextualized = contextual.createContextual(provider, property);
+            if (contextualized != beanSerializer) {
+                return new PostCardSerializer((JsonSerializer<Object>) contextualized, fragmentCache);
+            }
+        }
+        return this;
+    }
+}
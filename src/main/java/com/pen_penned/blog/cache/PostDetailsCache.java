@@ -0,0 +1,58 @@
+package com.pen_penned.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pen_penned.blog.dto.response.PostDetailsResponse;
+import com.pen_penned.blog.event.PostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache of assembled {@link PostDetailsResponse} objects.
+ * <p>
+ * Entries are keyed by the {@link PostCacheStamp} they were built from, so a lookup with the
+ * stamp just read from the database never returns a response for an older version of the
+ * post, its comments or its images, even when the write happened on another replica. Local
+ * writes also evict every entry of the post once their transaction commits, so superseded
+ * entries do not wait for eviction. Eviction is Caffeine's size-based W-TinyLFU, and hit,
+ * miss and eviction counts are published under the {@code cache.*} meters with
+ * {@code cache=postDetails}.
+ */
+@Component
+public class PostDetailsCache {
+
+    private final Cache<PostCacheStamp, PostDetailsResponse> cache;
+
+    public PostDetailsCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.post-details.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.post-details.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                // Bounds staleness for changes outside the stamp, e.g. an author renaming themselves
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetails");
+    }
+
+    public PostDetailsResponse get(PostCacheStamp stamp, Supplier<PostDetailsResponse> loader) {
+        // Concurrent misses for the same post share a single load
+        return cache.get(stamp, key -> loader.get());
+    }
+
+    public void invalidate(Long postId) {
+        cache.asMap().keySet().removeIf(stamp -> stamp.postId().equals(postId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.postId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.pen_penned.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pen_penned.blog.event.PostChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.function.Supplier;
+
+/**
+ * Rendered HTML of post content, keyed by post id and version.
+ * <p>
+ * A version only ever has one rendering, so entries need no expiry; the cache is bounded by
+ * the size of the stored HTML and reports under {@code cache=postHtml}.
+ */
+@Component
+public class PostHtmlCache {
+
+    private record Key(Long postId, long version) {
+    }
+
+    private final Cache<Key, String> cache;
+
+    public PostHtmlCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.post-html.maximum-weight:64MB}") DataSize maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                // Two bytes per char, close enough to the heap footprint of the string
+                .weigher((Key key, String html) -> html.length() * 2)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postHtml");
+    }
+
+    public String get(Long postId, long version, Supplier<String> loader) {
+        return cache.get(new Key(postId, version), key -> loader.get());
+    }
+
+    public void invalidate(Long postId) {
+        cache.asMap().keySet().removeIf(key -> key.postId().equals(postId));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidate(event.postId());
+    }
+}
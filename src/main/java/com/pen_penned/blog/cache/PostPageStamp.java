@@ -0,0 +1,28 @@
+package com.pen_penned.blog.cache;
+
+import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.util.PageTotals;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * One page of the post listing read as validator columns, with its total resolved once. The
+ * ETag and the response body are both built from it, so a request runs the page query and the
+ * count a single time.
+ */
+public record PostPageStamp(Slice<PostCacheStamp> slice, PageTotals totals, Long totalElements) {
+
+    // The total is part of the body, so it is part of the tag when one was asked for
+    public String eTag(String view) {
+        return PostCacheStamp.eTagOf(slice.getContent(), view, totals, slice.hasNext(), totalElements);
+    }
+
+    public List<Long> postIds() {
+        return slice.getContent().stream().map(PostCacheStamp::postId).toList();
+    }
+
+    public <T> PageResponse<T> toPage(List<T> content) {
+        return PageResponse.of(content, slice, totals, totalElements);
+    }
+}
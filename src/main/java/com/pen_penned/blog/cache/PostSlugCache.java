@@ -0,0 +1,51 @@
+package com.pen_penned.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pen_penned.blog.event.PostSlugChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Small in-process map from normalized slug to post id.
+ * <p>
+ * Unknown slugs are never cached. Callers verify the slug against the post's stamp on every
+ * lookup and evict on mismatch, so a slug changed on another replica heals on first use;
+ * local slug changes are evicted once their transaction commits.
+ */
+@Component
+public class PostSlugCache {
+
+    private final Cache<String, Long> cache;
+
+    public PostSlugCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.post-slugs.maximum-size:50000}") long maximumSize,
+            @Value("${app.cache.post-slugs.expire-after-write:1h}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postSlugs");
+    }
+
+    public Long get(String slug, Function<String, Long> loader) {
+        return cache.get(slug, loader);
+    }
+
+    public void invalidate(String slug) {
+        cache.invalidate(slug);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlugChanged(PostSlugChangedEvent event) {
+        invalidate(event.oldSlug());
+    }
+}
@@ -0,0 +1,68 @@
+package com.pen_penned.blog.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pen_penned.blog.config.AppConstants;
+import com.pen_penned.blog.event.PostListingChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Generated feeds and sitemaps, kept until a post they may list changes.
+ * <p>
+ * Feeds are small and dropped on any listing change. Sitemap files each cover a fixed range of
+ * post ids, so a change only drops the file holding that post plus the index, and the rest of a
+ * large sitemap is never regenerated. Other replicas' changes are picked up when entries expire.
+ * Reports under {@code cache=syndication}.
+ */
+@Component
+public class SyndicationCache {
+
+    public enum Document { RSS, ATOM, SITEMAP_INDEX, SITEMAP }
+
+    // Author id for author feeds, file number for sitemap files, otherwise null
+    private record Key(Document document, Long part) {
+    }
+
+    private final Cache<Key, SyndicationDocument> cache;
+
+    public SyndicationCache(
+            MeterRegistry meterRegistry,
+            @Value("${app.cache.syndication.maximum-weight:64MB}") DataSize maximumWeight,
+            @Value("${app.cache.syndication.expire-after-write:15m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Key key, SyndicationDocument document) -> document.body().length)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "syndication");
+    }
+
+    public SyndicationDocument get(Document document, Long part, Supplier<byte[]> generator) {
+        return cache.get(new Key(document, part), key -> SyndicationDocument.of(generator.get()));
+    }
+
+    // Sitemap file a post is listed in
+    public static long sitemapFileOf(Long postId) {
+        return (postId - 1) / AppConstants.SITEMAP_FILE_SIZE;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onListingChanged(PostListingChangedEvent event) {
+        Set<Long> files = event.postIds().stream()
+                .map(SyndicationCache::sitemapFileOf)
+                .collect(Collectors.toSet());
+        cache.asMap().keySet().removeIf(key ->
+                key.document() != Document.SITEMAP || files.contains(key.part()));
+    }
+}
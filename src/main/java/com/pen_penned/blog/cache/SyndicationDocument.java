@@ -0,0 +1,13 @@
+package com.pen_penned.blog.cache;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * A generated feed or sitemap, kept as the bytes that are sent, with a strong ETag over them.
+ */
+public record SyndicationDocument(byte[] body, String eTag) {
+
+    public static SyndicationDocument of(byte[] body) {
+        return new SyndicationDocument(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
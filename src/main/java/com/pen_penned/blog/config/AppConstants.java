@@ -5,6 +5,16 @@ public class AppConstants {
     public static final String PAGE_NUMBER = "0";
     public static final String PAGE_SIZE = "50";
     public static final String SORT_COMMENTS_BY = "id";
-    public static final String SORT_POSTS_BY = "id";
+    // Newest first, the order the partial feed indexes are built in
+    public static final String SORT_POSTS_BY = "createdAt";
+    public static final String SORT_POSTS_DIR = "desc";
     public static final String SORT_DIR = "asc";
+    public static final String POST_VIEW_SUMMARY = "summary";
+    public static final String POST_VIEW_FULL = "full";
+    public static final String PAGE_TOTALS = "none";
+    public static final String POST_FORMAT_HTML = "html";
+    public static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+    public static final int EXCERPT_LENGTH = 280;
+    // Post ids per sitemap file; the sitemap protocol allows at most 50,000 URLs in one file
+    public static final int SITEMAP_FILE_SIZE = 50_000;
 }
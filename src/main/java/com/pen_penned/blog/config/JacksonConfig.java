@@ -0,0 +1,35 @@
+package com.pen_penned.blog.config;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.pen_penned.blog.cache.PostCardFragmentCache;
+import com.pen_penned.blog.cache.PostCardSerializer;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    // Picked up by Spring Boot's ObjectMapper; post cards are written from the fragment cache
+    @Bean
+    public Module postCardModule(PostCardFragmentCache postCardFragmentCache) {
+        SimpleModule module = new SimpleModule("PostCardModule");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                if (beanDesc.getBeanClass() == PostSummaryResponse.class) {
+                    return new PostCardSerializer((JsonSerializer<Object>) serializer, postCardFragmentCache);
+                }
+                return serializer;
+            }
+        });
+        return module;
+    }
+}
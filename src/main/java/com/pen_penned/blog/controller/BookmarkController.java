@@ -7,6 +7,7 @@ import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.model.User;
 import com.pen_penned.blog.service.BookmarkService;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.PageTotals;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -30,8 +31,9 @@ public class BookmarkController {
         return new ResponseEntity<>(bookmarkResponse, HttpStatus.CREATED);
     }
 
+    // fields=id,postId,... narrows both the query and the JSON to the listed fields
     @GetMapping
-    public ResponseEntity<PageResponse<BookmarkResponse>> getUserBookmarks(
+    public ResponseEntity<PageResponse<?>> getUserBookmarks(
             @RequestParam(name = "pageNumber",
                     defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
             @RequestParam(name = "pageSize",
@@ -39,11 +41,18 @@ public class BookmarkController {
             @RequestParam(name = "sortBy",
                     defaultValue = AppConstants.SORT_COMMENTS_BY, required = false) String sortBy,
             @RequestParam(name = "sortOrder",
-                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder
+                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestParam(name = "totals",
+                    defaultValue = AppConstants.PAGE_TOTALS, required = false) String totals
     ) {
         User user = authUtil.loggedInUser();
-        PageResponse<BookmarkResponse> bookmarks = bookmarkService.getUserBookmarks(user.getId(), pageNumber,
-                pageSize, sortBy, sortOrder);
+        PageTotals pageTotals = PageTotals.from(totals);
+        PageResponse<?> bookmarks = fields != null
+                ? bookmarkService.getUserBookmarkFields(user.getId(), pageNumber, pageSize, sortBy, sortOrder,
+                fields, pageTotals)
+                : bookmarkService.getUserBookmarks(user.getId(), pageNumber, pageSize, sortBy, sortOrder,
+                pageTotals);
         return new ResponseEntity<>(bookmarks, HttpStatus.OK);
     }
 
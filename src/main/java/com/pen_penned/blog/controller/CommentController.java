@@ -1,5 +1,6 @@
 package com.pen_penned.blog.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.pen_penned.blog.config.AppConstants;
 import com.pen_penned.blog.dto.request.CommentRequest;
 import com.pen_penned.blog.dto.response.CommentResponse;
@@ -7,9 +8,13 @@ import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.model.User;
 import com.pen_penned.blog.service.CommentService;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.IfMatch;
+import com.pen_penned.blog.util.PageTotals;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,8 +41,9 @@ public class CommentController {
         return new ResponseEntity<>(commentResponse, HttpStatus.OK);
     }
 
+    // fields=id,content,... narrows both the query and the JSON to the listed fields
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<PageResponse<CommentResponse>> getPostComments(
+    public ResponseEntity<PageResponse<?>> getPostComments(
             @PathVariable Long postId,
             @RequestParam(name = "pageNumber",
                     defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
@@ -46,24 +52,48 @@ public class CommentController {
             @RequestParam(name = "sortBy",
                     defaultValue = AppConstants.SORT_COMMENTS_BY, required = false) String sortBy,
             @RequestParam(name = "sortOrder",
-                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder) {
-        PageResponse<CommentResponse> commentResponse = commentService.getCommentsByPost(postId,
-                pageNumber, pageSize, sortBy, sortOrder);
+                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestParam(name = "totals",
+                    defaultValue = AppConstants.PAGE_TOTALS, required = false) String totals) {
+        PageTotals pageTotals = PageTotals.from(totals);
+        PageResponse<?> commentResponse = fields != null
+                ? commentService.getCommentFieldsByPost(postId, pageNumber, pageSize, sortBy, sortOrder, fields,
+                pageTotals)
+                : commentService.getCommentsByPost(postId, pageNumber, pageSize, sortBy, sortOrder, pageTotals);
         return new ResponseEntity<>(commentResponse, HttpStatus.OK);
     }
 
 
     @PutMapping("/{commentId}")
     public ResponseEntity<CommentResponse> updateCommentById(
-            @PathVariable Long commentId, @Valid @RequestBody CommentRequest commentRequest) throws AccessDeniedException {
-        CommentResponse updatedComment = commentService.updateComment(commentId, commentRequest);
+            @PathVariable Long commentId,
+            @Valid @RequestBody CommentRequest commentRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws AccessDeniedException {
+        CommentResponse updatedComment = commentService.updateComment(commentId, commentRequest,
+                IfMatch.expectedVersion(ifMatch, "Comment", commentId));
         return new ResponseEntity<>(updatedComment, HttpStatus.OK);
     }
 
+    @PatchMapping(value = "/{commentId}", consumes = {AppConstants.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<CommentResponse> patchCommentById(
+            @PathVariable Long commentId,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws AccessDeniedException {
+        CommentResponse patchedComment = commentService.patchComment(commentId, patch,
+                IfMatch.expectedVersion(ifMatch, "Comment", commentId));
+        return new ResponseEntity<>(patchedComment, HttpStatus.OK);
+    }
+
 
     @DeleteMapping("/{commentId}")
-    public ResponseEntity<Void> deleteComment(@PathVariable Long commentId) throws AccessDeniedException {
-        commentService.deleteComment(commentId);
+    public ResponseEntity<Void> deleteComment(
+            @PathVariable Long commentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws AccessDeniedException {
+        commentService.deleteComment(commentId, IfMatch.expectedVersion(ifMatch, "Comment", commentId));
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,6 +1,7 @@
 package com.pen_penned.blog.controller;
 
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.pen_penned.blog.config.AppConstants;
 import com.pen_penned.blog.dto.request.BookmarkFolderRequest;
 import com.pen_penned.blog.dto.request.FolderRequest;
@@ -9,9 +10,11 @@ import com.pen_penned.blog.dto.response.FolderResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.service.FolderService;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.PageTotals;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -42,10 +45,13 @@ public class FolderController {
             @RequestParam(name = "sortBy",
                     defaultValue = "name", required = false) String sortBy,
             @RequestParam(name = "sortOrder",
-                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder
+                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder,
+            @RequestParam(name = "totals",
+                    defaultValue = AppConstants.PAGE_TOTALS, required = false) String totals
     ) {
         authUtil.loggedInUser(); // Ensure user is authenticated
-        PageResponse<FolderResponse> folders = folderService.getUserFolders(pageNumber, pageSize, sortBy, sortOrder);
+        PageResponse<FolderResponse> folders = folderService.getUserFolders(pageNumber, pageSize, sortBy, sortOrder,
+                PageTotals.from(totals));
         return new ResponseEntity<>(folders, HttpStatus.OK);
     }
 
@@ -66,6 +72,15 @@ public class FolderController {
         return new ResponseEntity<>(folderResponse, HttpStatus.OK);
     }
 
+    @PatchMapping(value = "/{folderId}", consumes = {AppConstants.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<FolderResponse> patchFolder(
+            @PathVariable Long folderId,
+            @RequestBody JsonNode patch
+    ) throws AccessDeniedException {
+        FolderResponse folderResponse = folderService.patchFolder(folderId, patch);
+        return new ResponseEntity<>(folderResponse, HttpStatus.OK);
+    }
+
     @DeleteMapping("/{folderId}")
     public ResponseEntity<Void> deleteFolder(@PathVariable Long folderId) throws AccessDeniedException {
         authUtil.loggedInUser(); // Ensure user is authenticated
@@ -108,11 +123,13 @@ public class FolderController {
             @RequestParam(name = "sortBy",
                     defaultValue = AppConstants.SORT_COMMENTS_BY, required = false) String sortBy,
             @RequestParam(name = "sortOrder",
-                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder
+                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder,
+            @RequestParam(name = "totals",
+                    defaultValue = AppConstants.PAGE_TOTALS, required = false) String totals
     ) throws AccessDeniedException {
         authUtil.loggedInUser(); // Ensure user is authenticated
         PageResponse<BookmarkResponse> bookmarks = folderService.getBookmarksInFolder(folderId, pageNumber,
-                pageSize, sortBy, sortOrder);
+                pageSize, sortBy, sortOrder, PageTotals.from(totals));
         return new ResponseEntity<>(bookmarks, HttpStatus.OK);
     }
 }
@@ -1,24 +1,44 @@
 package com.pen_penned.blog.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pen_penned.blog.cache.PostCacheStamp;
+import com.pen_penned.blog.cache.PostPageStamp;
 import com.pen_penned.blog.config.AppConstants;
 import com.pen_penned.blog.dto.request.PostImageUploadRequestDTO;
 import com.pen_penned.blog.dto.request.PostRequest;
+import com.pen_penned.blog.dto.response.ArchiveMonthResponse;
+import com.pen_penned.blog.dto.response.CursorPageResponse;
+import com.pen_penned.blog.dto.response.MultiGetResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.dto.response.PostDetailsResponse;
+import com.pen_penned.blog.dto.response.PostImportResponse;
 import com.pen_penned.blog.dto.response.PostResponse;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
+import com.pen_penned.blog.exception.APIException;
 import com.pen_penned.blog.model.PostImage;
 import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.service.PostExportService;
 import com.pen_penned.blog.service.PostImageService;
+import com.pen_penned.blog.service.PostImportService;
+import com.pen_penned.blog.service.PostRollupService;
 import com.pen_penned.blog.service.PostService;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.IfMatch;
+import com.pen_penned.blog.util.PageTotals;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.AccessDeniedException;
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +54,13 @@ public class PostController {
     private final AuthUtil authUtil;
     private final PostService postService;
     private final PostImageService postImageService;
+    private final PostImportService postImportService;
+    private final PostExportService postExportService;
+    private final PostRollupService postRollupService;
+
+    // Keeps every cursor page a bounded index range scan
+    @Value("${app.posts.feed.max-page-size:100}")
+    private int maxFeedPageSize;
 
     @PostMapping(value = "/with-images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<PostResponse> createPostWithImages(
@@ -100,8 +127,33 @@ public class PostController {
         return new ResponseEntity<>(savedPost, HttpStatus.CREATED);
     }
 
+    // Bulk import, one JSON post per line; the body is streamed, and each line succeeds or fails on its own
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<PostImportResponse> importPosts(InputStream body) throws IOException {
+        PostImportResponse report = postImportService.importPosts(body);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    // The signed-in user's posts as a ZIP of Markdown files, written to the response as they are read
+    @GetMapping("/export")
+    public void exportPosts(HttpServletResponse response) throws IOException {
+        User user = authUtil.loggedInUser();
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts-export.zip\"");
+        postExportService.exportPosts(user.getId(), response.getOutputStream());
+    }
+
+    // Published posts per month, newest first, read from the rollup table
+    @GetMapping("/archive")
+    public ResponseEntity<List<ArchiveMonthResponse>> getArchive() {
+        return new ResponseEntity<>(postRollupService.getArchive(), HttpStatus.OK);
+    }
+
+    // Returns post summaries by default; pass view=full to get the full content of every post,
+    // or fields=id,title,... to read and return only the listed fields.
+    // totals=estimated|exact adds totalElements and totalPages; the default skips the count
     @GetMapping
-    public ResponseEntity<PageResponse<PostResponse>> getAllPosts(
+    public ResponseEntity<PageResponse<?>> getAllPosts(
             @RequestParam(name = "pageNumber",
                     defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
             @RequestParam(name = "pageSize",
@@ -109,29 +161,155 @@ public class PostController {
             @RequestParam(name = "sortBy",
                     defaultValue = AppConstants.SORT_POSTS_BY, required = false) String sortBy,
             @RequestParam(name = "sortOrder",
-                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder
+                    defaultValue = AppConstants.SORT_POSTS_DIR, required = false) String sortOrder,
+            @RequestParam(name = "view",
+                    defaultValue = AppConstants.POST_VIEW_SUMMARY, required = false) String view,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestParam(name = "totals",
+                    defaultValue = AppConstants.PAGE_TOTALS, required = false) String totals,
+            WebRequest webRequest
     ) {
-        PageResponse<PostResponse> postResponse = postService.getAllPosts(pageNumber, pageSize, sortBy, sortOrder);
+        boolean fullView = AppConstants.POST_VIEW_FULL.equalsIgnoreCase(view);
+        PageTotals pageTotals = PageTotals.from(totals);
+
+        // Answer 304 from the validator columns before assembling the page
+        String representation = fields != null ? "fields=" + fields
+                : fullView ? AppConstants.POST_VIEW_FULL : AppConstants.POST_VIEW_SUMMARY;
+        // The same stamps and total then drive the body, so the page query and the count run once
+        PostPageStamp page = postService.getPostPageStamp(pageNumber, pageSize, sortBy, sortOrder, pageTotals);
+        if (webRequest.checkNotModified(page.eTag(representation))) {
+            return null;
+        }
+
+        PageResponse<?> postResponse;
+        if (fields != null) {
+            postResponse = postService.getPostFields(page, fields);
+        } else if (fullView) {
+            postResponse = postService.getAllPosts(page);
+        } else {
+            postResponse = postService.getPostSummaries(page);
+        }
+        return new ResponseEntity<>(postResponse, HttpStatus.OK);
+    }
+
+    // Cursor mode: pass an empty cursor for the first page, then the returned nextCursor
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorPageResponse<?>> getPostFeed(
+            @RequestParam(name = "cursor") String cursor,
+            @RequestParam(name = "pageSize",
+                    defaultValue = AppConstants.PAGE_SIZE, required = false) Integer pageSize,
+            @RequestParam(name = "view",
+                    defaultValue = AppConstants.POST_VIEW_SUMMARY, required = false) String view,
+            WebRequest webRequest
+    ) {
+        if (pageSize < 1 || pageSize > maxFeedPageSize) {
+            throw new APIException("pageSize must be between 1 and " + maxFeedPageSize);
+        }
+        boolean fullView = AppConstants.POST_VIEW_FULL.equalsIgnoreCase(view);
+
+        String eTag = postService.getPostFeedETag(cursor, pageSize,
+                fullView ? AppConstants.POST_VIEW_FULL : AppConstants.POST_VIEW_SUMMARY);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CursorPageResponse<?> postResponse = fullView
+                ? postService.getPostFeed(cursor, pageSize)
+                : postService.getPostSummaryFeed(cursor, pageSize);
+        return new ResponseEntity<>(postResponse, HttpStatus.OK);
+    }
+
+    // Multi-get: ids=3,1,2 returns the found posts in that order plus the ids that do not exist
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<?>> getPostsByIds(
+            @RequestParam(name = "ids") List<Long> ids,
+            @RequestParam(name = "view",
+                    defaultValue = AppConstants.POST_VIEW_SUMMARY, required = false) String view
+    ) {
+        MultiGetResponse<?> postResponse = AppConstants.POST_VIEW_FULL.equalsIgnoreCase(view)
+                ? postService.getPostsByIds(ids)
+                : postService.getPostSummariesByIds(ids);
         return new ResponseEntity<>(postResponse, HttpStatus.OK);
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<PostDetailsResponse> getPostById(@PathVariable Long postId) {
-        PostDetailsResponse postDetailsResponse = postService.getPostById(postId);
+    public ResponseEntity<?> getPostById(
+            @PathVariable Long postId,
+            @RequestParam(name = "fields", required = false) String fields,
+            @RequestParam(name = "format", required = false) String format,
+            WebRequest webRequest) {
+        boolean html = AppConstants.POST_FORMAT_HTML.equalsIgnoreCase(format);
+
+        // A sparse body is another representation, tagged with the same discriminator as the listing
+        PostCacheStamp stamp = postService.getPostStamp(postId);
+        String eTag = fields != null ? stamp.eTag("fields=" + fields)
+                : html ? stamp.eTag(AppConstants.POST_FORMAT_HTML) : stamp.eTag();
+        if (webRequest.checkNotModified(eTag, stamp.lastModified().toEpochMilli())) {
+            return null;
+        }
+
+        // Sparse reads bypass the details cache; they are already a single narrow query
+        if (fields != null) {
+            return new ResponseEntity<>(postService.getPostFieldsById(postId, fields), HttpStatus.OK);
+        }
+
+        // format=html adds the content rendered to sanitized HTML next to the raw Markdown
+        PostDetailsResponse postDetailsResponse = html
+                ? postService.getPostHtmlById(stamp)
+                : postService.getPostById(stamp);
         return new ResponseEntity<>(postDetailsResponse, HttpStatus.OK);
     }
 
 
+    // SEO URLs resolve through the slug index, then share the id path's validators and cache
+    @GetMapping("/slug/{slug}")
+    public ResponseEntity<PostDetailsResponse> getPostBySlug(
+            @PathVariable String slug,
+            @RequestParam(name = "format", required = false) String format,
+            WebRequest webRequest) {
+        boolean html = AppConstants.POST_FORMAT_HTML.equalsIgnoreCase(format);
+
+        PostCacheStamp stamp = postService.getPostStampBySlug(slug);
+        String eTag = html ? stamp.eTag(AppConstants.POST_FORMAT_HTML) : stamp.eTag();
+        if (webRequest.checkNotModified(eTag, stamp.lastModified().toEpochMilli())) {
+            return null;
+        }
+
+        PostDetailsResponse postDetailsResponse = html
+                ? postService.getPostHtmlById(stamp)
+                : postService.getPostById(stamp);
+        return new ResponseEntity<>(postDetailsResponse, HttpStatus.OK);
+    }
+
     @PutMapping("/{postId}")
     public ResponseEntity<PostResponse> updatePostById(
-            @PathVariable Long postId, @Valid @RequestBody PostRequest postRequest) throws AccessDeniedException {
-        PostResponse updatedPost = postService.updatePost(postId, postRequest);
+            @PathVariable Long postId,
+            @Valid @RequestBody PostRequest postRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws AccessDeniedException {
+        PostResponse updatedPost = postService.updatePost(postId, postRequest,
+                IfMatch.expectedVersion(ifMatch, "Post", postId));
         return new ResponseEntity<>(updatedPost, HttpStatus.OK);
     }
 
+    // JSON Merge Patch: only the fields present are written, null clears an optional field
+    @PatchMapping(value = "/{postId}", consumes = {AppConstants.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<PostSummaryResponse> patchPostById(
+            @PathVariable Long postId,
+            @RequestBody JsonNode patch,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws AccessDeniedException {
+        PostSummaryResponse patchedPost = postService.patchPost(postId, patch,
+                IfMatch.expectedVersion(ifMatch, "Post", postId));
+        return new ResponseEntity<>(patchedPost, HttpStatus.OK);
+    }
+
     @DeleteMapping("/{postId}")
-    public ResponseEntity<Void> deletePost(@PathVariable Long postId) throws AccessDeniedException {
-        postService.deletePost(postId);
+    public ResponseEntity<Void> deletePost(
+            @PathVariable Long postId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch)
+            throws AccessDeniedException {
+        postService.deletePost(postId, IfMatch.expectedVersion(ifMatch, "Post", postId));
         return ResponseEntity.noContent().build();
     }
 }
@@ -1,5 +1,6 @@
 package com.pen_penned.blog.controller;
 
+import com.pen_penned.blog.cache.PostCacheStamp;
 import com.pen_penned.blog.dto.request.PostImageUpdateRequestDTO;
 import com.pen_penned.blog.dto.request.PostImageUploadRequestDTO;
 import com.pen_penned.blog.dto.response.PostImageResponseDTO;
@@ -15,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -138,7 +140,13 @@ public class PostImageController {
     }
 
     @GetMapping
-    public ResponseEntity<Set<PostImageResponseDTO>> getPostImages(@PathVariable Long postId) {
+    public ResponseEntity<Set<PostImageResponseDTO>> getPostImages(@PathVariable Long postId, WebRequest webRequest) {
+        // Image writes move the post's stamp, so it validates the image list as well
+        PostCacheStamp stamp = postService.getPostStamp(postId);
+        if (webRequest.checkNotModified(stamp.eTag(), stamp.lastModified().toEpochMilli())) {
+            return null;
+        }
+
         Set<PostImageResponseDTO> images = postImageService.getPostImages(postId).stream()
                 .map(PostImageResponseDTO::fromEntity)
                 .collect(Collectors.toSet());
@@ -0,0 +1,57 @@
+package com.pen_penned.blog.controller;
+
+import com.pen_penned.blog.config.AppConstants;
+import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.dto.response.PostRevisionResponse;
+import com.pen_penned.blog.dto.response.PostRevisionSummaryResponse;
+import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.service.PostRevisionService;
+import com.pen_penned.blog.service.PostService;
+import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.PageTotals;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.AccessDeniedException;
+
+// Revision history is only visible to the post's author
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/posts/{postId}/revisions")
+public class PostRevisionController {
+
+    private final PostRevisionService postRevisionService;
+    private final PostService postService;
+    private final AuthUtil authUtil;
+
+    @GetMapping
+    public ResponseEntity<PageResponse<PostRevisionSummaryResponse>> getRevisions(
+            @PathVariable Long postId,
+            @RequestParam(name = "pageNumber",
+                    defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
+            @RequestParam(name = "pageSize",
+                    defaultValue = AppConstants.PAGE_SIZE, required = false) Integer pageSize,
+            @RequestParam(name = "totals",
+                    defaultValue = AppConstants.PAGE_TOTALS, required = false) String totals
+    ) throws AccessDeniedException {
+        User user = authUtil.loggedInUser();
+        postService.verifyPostOwnership(postId, user.getId());
+
+        PageResponse<PostRevisionSummaryResponse> revisions =
+                postRevisionService.getRevisions(postId, pageNumber, pageSize, PageTotals.from(totals));
+        return new ResponseEntity<>(revisions, HttpStatus.OK);
+    }
+
+    @GetMapping("/{revisionNumber}")
+    public ResponseEntity<PostRevisionResponse> getRevision(
+            @PathVariable Long postId,
+            @PathVariable Integer revisionNumber) throws AccessDeniedException {
+        User user = authUtil.loggedInUser();
+        postService.verifyPostOwnership(postId, user.getId());
+
+        PostRevisionResponse revision = postRevisionService.getRevision(postId, revisionNumber);
+        return new ResponseEntity<>(revision, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,70 @@
+package com.pen_penned.blog.controller;
+
+import com.pen_penned.blog.cache.SyndicationDocument;
+import com.pen_penned.blog.service.SyndicationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+// Public, for feed readers and crawlers; every response is served from cached bytes
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class SyndicationController {
+
+    private static final MediaType RSS = MediaType.parseMediaType("application/rss+xml;charset=UTF-8");
+    private static final MediaType ATOM = MediaType.parseMediaType("application/atom+xml;charset=UTF-8");
+    private static final MediaType XML = MediaType.parseMediaType("application/xml;charset=UTF-8");
+
+    private final SyndicationService syndicationService;
+
+    @GetMapping("/feeds/rss")
+    public ResponseEntity<byte[]> getRssFeed(WebRequest webRequest) {
+        return respond(syndicationService.getRssFeed(null), RSS, webRequest);
+    }
+
+    @GetMapping("/feeds/atom")
+    public ResponseEntity<byte[]> getAtomFeed(WebRequest webRequest) {
+        return respond(syndicationService.getAtomFeed(null), ATOM, webRequest);
+    }
+
+    @GetMapping("/feeds/authors/{authorId}/rss")
+    public ResponseEntity<byte[]> getAuthorRssFeed(@PathVariable Long authorId, WebRequest webRequest) {
+        return respond(syndicationService.getRssFeed(authorId), RSS, webRequest);
+    }
+
+    @GetMapping("/feeds/authors/{authorId}/atom")
+    public ResponseEntity<byte[]> getAuthorAtomFeed(@PathVariable Long authorId, WebRequest webRequest) {
+        return respond(syndicationService.getAtomFeed(authorId), ATOM, webRequest);
+    }
+
+    @GetMapping("/sitemap")
+    public ResponseEntity<byte[]> getSitemapIndex(WebRequest webRequest) {
+        return respond(syndicationService.getSitemapIndex(), XML, webRequest);
+    }
+
+    @GetMapping("/sitemap/{file}")
+    public ResponseEntity<byte[]> getSitemap(@PathVariable long file, WebRequest webRequest) {
+        return respond(syndicationService.getSitemap(file), XML, webRequest);
+    }
+
+    // Clients revalidate after a few minutes and mostly get a 304
+    private ResponseEntity<byte[]> respond(SyndicationDocument document, MediaType mediaType, WebRequest webRequest) {
+        if (webRequest.checkNotModified(document.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .eTag(document.eTag())
+                .body(document.body());
+    }
+}
@@ -0,0 +1,28 @@
+package com.pen_penned.blog.controller;
+
+import com.pen_penned.blog.dto.response.TagCountResponse;
+import com.pen_penned.blog.service.PostRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final PostRollupService postRollupService;
+
+    // Most used tags first, read from the rollup table
+    @GetMapping("/counts")
+    public ResponseEntity<List<TagCountResponse>> getTagCounts(
+            @RequestParam(name = "limit", defaultValue = "50", required = false) Integer limit) {
+        return new ResponseEntity<>(postRollupService.getTagCounts(limit), HttpStatus.OK);
+    }
+}
@@ -28,7 +28,7 @@ public class UserController {
             @RequestParam(name = "sortBy",
                     defaultValue = AppConstants.SORT_POSTS_BY, required = false) String sortBy,
             @RequestParam(name = "sortOrder",
-                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder) {
+                    defaultValue = AppConstants.SORT_POSTS_DIR, required = false) String sortOrder) {
         User user = authUtil.loggedInUser();
         PageResponse<PostResponse> postResponse = postService
                 .getUserPosts(user, pageNumber, pageSize, sortBy, sortOrder);
@@ -36,8 +36,9 @@ public class UserController {
     }
 
 
+    // Returns post summaries by default; pass view=full to get the full content of every post
     @GetMapping("/{userId}/posts")
-    public ResponseEntity<PageResponse<PostResponse>> getUserPosts(
+    public ResponseEntity<PageResponse<?>> getUserPosts(
             @PathVariable Long userId,
             @RequestParam(name = "pageNumber",
                     defaultValue = AppConstants.PAGE_NUMBER, required = false) Integer pageNumber,
@@ -46,11 +47,13 @@ public class UserController {
             @RequestParam(name = "sortBy",
                     defaultValue = AppConstants.SORT_POSTS_BY, required = false) String sortBy,
             @RequestParam(name = "sortOrder",
-                    defaultValue = AppConstants.SORT_DIR, required = false) String sortOrder
+                    defaultValue = AppConstants.SORT_POSTS_DIR, required = false) String sortOrder,
+            @RequestParam(name = "view",
+                    defaultValue = AppConstants.POST_VIEW_SUMMARY, required = false) String view
     ) {
-        PageResponse<PostResponse> postResponse = postService.getPostsByUserId(
-                userId, pageNumber, pageSize, sortBy, sortOrder
-        );
+        PageResponse<?> postResponse = AppConstants.POST_VIEW_FULL.equalsIgnoreCase(view)
+                ? postService.getPostsByUserId(userId, pageNumber, pageSize, sortBy, sortOrder)
+                : postService.getPostSummariesByUserId(userId, pageNumber, pageSize, sortBy, sortOrder);
         return new ResponseEntity<>(postResponse, HttpStatus.OK);
     }
 }
@@ -0,0 +1,31 @@
+package com.pen_penned.blog.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One line of a bulk import. Like {@link PostRequest}, but imported posts are published unless
+ * told otherwise and may keep their original creation time.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportRequest {
+
+    private String title;
+    private String content;
+    private String slug;
+    private List<String> tags;
+    private String coverImageUrl;
+    private Boolean published;
+
+    // UTC, like every other timestamp
+    private LocalDateTime publishAt;
+    private LocalDateTime createdAt;
+}
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,4 +26,7 @@ public class PostRequest {
 
     @Builder.Default
     private Boolean published = false;
+
+    // UTC; a future time keeps the post unpublished until then
+    private LocalDateTime publishAt;
 }
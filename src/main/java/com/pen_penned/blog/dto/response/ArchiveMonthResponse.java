@@ -0,0 +1,23 @@
+package com.pen_penned.blog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchiveMonthResponse {
+
+    private int year;
+    private int month;
+    private long postCount;
+
+    public ArchiveMonthResponse(LocalDate month, long postCount) {
+        this(month.getYear(), month.getMonthValue(), postCount);
+    }
+}
@@ -26,4 +26,7 @@ public class CommentResponse {
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
+
+    // Send back in If-Match to make a write conditional on it
+    private Long version;
 }
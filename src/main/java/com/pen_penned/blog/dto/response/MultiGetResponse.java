@@ -0,0 +1,19 @@
+package com.pen_penned.blog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiGetResponse<T> {
+
+    // In the order the ids were requested, duplicates removed
+    private List<T> content;
+    private List<Long> missingIds;
+}
@@ -1,11 +1,14 @@
 package com.pen_penned.blog.dto.response;
 
+import com.pen_penned.blog.util.PageTotals;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.LongSupplier;
 
 @Data
 @Builder
@@ -19,4 +22,38 @@ public class PageResponse<T> {
     private Long totalElements;
     private Integer totalPages;
     private boolean lastPage;
+
+    // totalElements and totalPages are null when no total was requested
+    private PageTotals totals;
+
+    public PageResponse(List<T> content, Integer pageNumber, Integer pageSize, Long totalElements,
+                        Integer totalPages, boolean lastPage) {
+        this(content, pageNumber, pageSize, totalElements, totalPages, lastPage, PageTotals.EXACT);
+    }
+
+    public static <T> PageResponse<T> of(List<T> content, Slice<?> slice, PageTotals totals,
+                                         LongSupplier exactCount, LongSupplier estimatedCount) {
+        return of(content, slice, totals, totals.resolve(slice, exactCount, estimatedCount));
+    }
+
+    // For callers that resolved the total themselves, e.g. alongside a page ETag
+    public static <T> PageResponse<T> of(List<T> content, Slice<?> slice, PageTotals totals, Long totalElements) {
+        Integer totalPages = totalElements == null ? null
+                : (int) ((totalElements + slice.getSize() - 1) / slice.getSize());
+
+        return new PageResponse<>(
+                content,
+                slice.getNumber(),
+                slice.getSize(),
+                totalElements,
+                totalPages,
+                !slice.hasNext(),
+                totals
+        );
+    }
+
+    public static <T> PageResponse<T> of(List<T> content, Slice<?> slice, PageTotals totals,
+                                         LongSupplier exactCount) {
+        return of(content, slice, totals, exactCount, exactCount);
+    }
 }
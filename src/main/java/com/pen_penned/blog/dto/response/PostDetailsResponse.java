@@ -1,7 +1,7 @@
 package com.pen_penned.blog.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.pen_penned.blog.dto.request.CommentRequest;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,7 +13,7 @@ import java.util.List;
 
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostDetailsResponse {
@@ -21,6 +21,14 @@ public class PostDetailsResponse {
     private Long id;
     private String title;
     private String content;
+
+    // Sanitized HTML of the content, only present for format=html
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String contentHtml;
+
+    private String excerpt;
+    private Integer wordCount;
+    private Integer readingTimeMinutes;
     private String slug;
     private List<String> tags;
     private String coverImageUrl;
@@ -32,14 +40,22 @@ public class PostDetailsResponse {
     private String authorLastName;
 
     private Integer commentCount;
-    private List<CommentRequest> comments;
+    // Newest comments only; page through the rest with the comments endpoint
+    private List<CommentResponse> comments;
+    private boolean hasMoreComments;
 
     @Builder.Default
     private List<PostImageResponseDTO> images = new ArrayList<>();
 
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime publishAt;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
+
+    // Send back in If-Match to make a write conditional on it
+    private Long version;
 }
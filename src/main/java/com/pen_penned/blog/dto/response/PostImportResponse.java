@@ -0,0 +1,29 @@
+package com.pen_penned.blog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportResponse {
+
+    private long imported;
+    private long failed;
+
+    // The first failures only; failed has the full count
+    private List<LineError> errors;
+    private boolean errorsTruncated;
+
+    @Data
+    @AllArgsConstructor
+    public static class LineError {
+        private long line;
+        private String message;
+    }
+}
@@ -19,6 +19,9 @@ public class PostResponse {
     private Long id;
     private String title;
     private String content;
+    private String excerpt;
+    private Integer wordCount;
+    private Integer readingTimeMinutes;
     private String slug;
     private List<String> tags;
     private String coverImageUrl;
@@ -34,9 +37,15 @@ public class PostResponse {
     @Builder.Default
     private List<PostImageResponseDTO> images = new ArrayList<>();
 
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime publishAt;
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
+
+    // Send back in If-Match to make a write conditional on it
+    private Long version;
 }
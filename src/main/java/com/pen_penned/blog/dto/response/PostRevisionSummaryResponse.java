@@ -0,0 +1,29 @@
+package com.pen_penned.blog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostRevisionSummaryResponse {
+
+    private Integer revisionNumber;
+    private String title;
+    private Boolean snapshot;
+
+    // Length of the content at this revision and of what was actually stored for it
+    private Integer contentLength;
+    private Integer storedLength;
+
+    private Long editorId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,75 @@
+package com.pen_penned.blog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Card-sized view of a post used by list endpoints. It carries an excerpt instead of the full
+ * content and is filled straight from a JPQL constructor projection.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSummaryResponse {
+
+    private Long id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private Integer wordCount;
+    private Integer readingTimeMinutes;
+
+    @Builder.Default
+    private List<String> tags = new ArrayList<>();
+
+    private String coverImageUrl;
+    private Boolean published;
+
+    private Long authorId;
+    private String authorFirstName;
+    private String authorLastName;
+
+    private Integer commentCount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    // Keys the serialized card fragment; not part of the payload
+    @JsonIgnore
+    private Long version;
+
+    // Used by the JPQL constructor expression; tags are filled in afterwards
+    public PostSummaryResponse(Long id, String title, String slug, String excerpt, Integer wordCount,
+                               Integer readingTimeMinutes, String coverImageUrl, Boolean published, Long authorId, String authorFirstName,
+                               String authorLastName, Integer commentCount,
+                               LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+        this.excerpt = excerpt;
+        this.wordCount = wordCount;
+        this.readingTimeMinutes = readingTimeMinutes;
+        this.tags = new ArrayList<>();
+        this.coverImageUrl = coverImageUrl;
+        this.published = published;
+        this.authorId = authorId;
+        this.authorFirstName = authorFirstName;
+        this.authorLastName = authorLastName;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+}
@@ -0,0 +1,16 @@
+package com.pen_penned.blog.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagCountResponse {
+
+    private String tag;
+    private long postCount;
+}
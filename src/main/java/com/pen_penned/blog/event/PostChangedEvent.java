@@ -0,0 +1,8 @@
+package com.pen_penned.blog.event;
+
+/**
+ * Published whenever a post, one of its comments or one of its images changes, so that
+ * anything derived from the post can be dropped.
+ */
+public record PostChangedEvent(Long postId) {
+}
@@ -0,0 +1,15 @@
+package com.pen_penned.blog.event;
+
+import java.util.List;
+
+/**
+ * Published when posts are created, edited, published or deleted, so that documents listing
+ * posts, such as feeds and sitemaps, can be regenerated. Unlike {@link PostChangedEvent} it is
+ * not published for comment or image changes.
+ */
+public record PostListingChangedEvent(List<Long> postIds) {
+
+    public static PostListingChangedEvent of(Long postId) {
+        return new PostListingChangedEvent(List.of(postId));
+    }
+}
@@ -0,0 +1,8 @@
+package com.pen_penned.blog.event;
+
+/**
+ * Published when a post's slug changes or the post is deleted, so the old slug stops
+ * resolving to it.
+ */
+public record PostSlugChangedEvent(Long postId, String oldSlug) {
+}
@@ -2,6 +2,7 @@ package com.pen_penned.blog.exception;
 
 import com.pen_penned.blog.payload.APIResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -117,6 +118,22 @@ public class MyGlobalExceptionHandler {
         return new ResponseEntity<>(new APIResponse(exception.getMessage(), false), HttpStatus.CONFLICT);
     }
 
+    // Handle OptimisticLockingFailureException (the row changed since it was read)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<APIResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException exception) {
+        log.warn("Concurrent update: {}", exception.getMessage());
+        return new ResponseEntity<>(new APIResponse("The resource was modified concurrently, reload and retry",
+                false), HttpStatus.CONFLICT);
+    }
+
+    // Handle PreconditionFailedException (an If-Match version no longer matches)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<APIResponse> handlePreconditionFailedException(PreconditionFailedException exception) {
+        log.warn("Precondition failed: {}", exception.getMessage());
+        return new ResponseEntity<>(new APIResponse(exception.getMessage(), false), HttpStatus.PRECONDITION_FAILED);
+    }
+
     // Handle general exceptions and send a generic response
     @ExceptionHandler(Exception.class)
     public ResponseEntity<APIResponse> handleGeneralException(Exception ex) {
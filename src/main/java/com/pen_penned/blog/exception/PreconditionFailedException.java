@@ -0,0 +1,13 @@
+package com.pen_penned.blog.exception;
+
+import java.io.Serial;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public PreconditionFailedException(String resourceName, Long id) {
+        super(String.format("%s %d has changed since it was read", resourceName, id));
+    }
+}
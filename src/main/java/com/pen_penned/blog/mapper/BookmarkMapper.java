@@ -0,0 +1,39 @@
+package com.pen_penned.blog.mapper;
+
+import com.pen_penned.blog.dto.response.BookmarkResponse;
+import com.pen_penned.blog.model.Bookmark;
+import com.pen_penned.blog.model.BookmarkFolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Maps bookmarks to their DTOs. Only foreign key ids are read from the user and post, so no
+ * association is loaded; the post title and folders are set by the caller.
+ */
+@Component
+public class BookmarkMapper {
+
+    public BookmarkResponse toResponse(Bookmark bookmark) {
+        return BookmarkResponse.builder()
+                .id(bookmark.getId())
+                .userId(bookmark.getUser().getId())
+                .postId(bookmark.getPost().getId())
+                .createdAt(bookmark.getCreatedAt())
+                .updatedAt(bookmark.getUpdatedAt())
+                .folders(new HashSet<>())
+                .build();
+    }
+
+    public Set<BookmarkResponse.FolderMinimalResponse> toFolderResponses(Collection<BookmarkFolder> bookmarkFolders) {
+        return bookmarkFolders.stream()
+                .map(bf -> BookmarkResponse.FolderMinimalResponse.builder()
+                        .id(bf.getFolder().getId())
+                        .name(bf.getFolder().getName())
+                        .build())
+                .collect(Collectors.toSet());
+    }
+}
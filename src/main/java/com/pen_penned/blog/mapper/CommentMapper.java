@@ -0,0 +1,30 @@
+package com.pen_penned.blog.mapper;
+
+import com.pen_penned.blog.dto.response.CommentResponse;
+import com.pen_penned.blog.model.Comment;
+import com.pen_penned.blog.model.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps comments to their DTOs. Reads the author's names, so callers listing many comments
+ * should fetch the author together with the comments.
+ */
+@Component
+public class CommentMapper {
+
+    public CommentResponse toResponse(Comment comment) {
+        User author = comment.getAuthor();
+
+        return CommentResponse.builder()
+                .id(comment.getId())
+                .content(comment.getContent())
+                .authorId(author.getId())
+                .authorFirstName(author.getFirstName())
+                .authorLastName(author.getLastName())
+                .postId(comment.getPost().getId())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .version(comment.getVersion())
+                .build();
+    }
+}
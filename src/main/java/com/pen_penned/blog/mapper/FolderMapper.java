@@ -0,0 +1,23 @@
+package com.pen_penned.blog.mapper;
+
+import com.pen_penned.blog.dto.response.FolderResponse;
+import com.pen_penned.blog.model.Folder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps folders to their DTOs. The bookmark count is set by the caller.
+ */
+@Component
+public class FolderMapper {
+
+    public FolderResponse toResponse(Folder folder) {
+        return FolderResponse.builder()
+                .id(folder.getId())
+                .name(folder.getName())
+                .description(folder.getDescription())
+                .userId(folder.getUser().getId())
+                .createdAt(folder.getCreatedAt())
+                .updatedAt(folder.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.pen_penned.blog.mapper;
+
+import com.pen_penned.blog.dto.request.PostRequest;
+import com.pen_penned.blog.dto.response.CommentResponse;
+import com.pen_penned.blog.dto.response.PostDetailsResponse;
+import com.pen_penned.blog.dto.response.PostImageResponseDTO;
+import com.pen_penned.blog.dto.response.PostResponse;
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.User;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps posts to and from their DTOs.
+ * <p>
+ * The only association read from the entity is the author; tags, comments and images are
+ * passed in by the caller so it decides how (and whether) they are loaded.
+ */
+@Component
+public class PostMapper {
+
+    public Post toEntity(PostRequest postRequest) {
+        return Post.builder()
+                .title(postRequest.getTitle())
+                .content(postRequest.getContent())
+                .slug(postRequest.getSlug())
+                .tags(postRequest.getTags() != null ? new ArrayList<>(postRequest.getTags()) : new ArrayList<>())
+                .coverImageUrl(postRequest.getCoverImageUrl())
+                .published(postRequest.getPublished())
+                .build();
+    }
+
+    public PostResponse toResponse(Post post, List<String> tags, List<PostImageResponseDTO> images) {
+        User author = post.getAuthor();
+
+        return PostResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .excerpt(post.getExcerpt())
+                .wordCount(post.getWordCount())
+                .readingTimeMinutes(post.getReadingTimeMinutes())
+                .slug(post.getSlug())
+                .tags(tags)
+                .coverImageUrl(post.getCoverImageUrl())
+                .published(post.getPublished())
+                .publishAt(post.getPublishAt())
+                .authorId(author.getId())
+                .authorFirstName(author.getFirstName())
+                .authorLastName(author.getLastName())
+                .commentCount(post.getCommentCount())
+                .images(images)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
+                .build();
+    }
+
+    public PostDetailsResponse toDetailsResponse(Post post, List<String> tags, List<CommentResponse> comments,
+                                                 List<PostImageResponseDTO> images) {
+        User author = post.getAuthor();
+
+        return PostDetailsResponse.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .excerpt(post.getExcerpt())
+                .wordCount(post.getWordCount())
+                .readingTimeMinutes(post.getReadingTimeMinutes())
+                .slug(post.getSlug())
+                .tags(tags)
+                .coverImageUrl(post.getCoverImageUrl())
+                .published(post.getPublished())
+                .publishAt(post.getPublishAt())
+                .authorId(author.getId())
+                .authorFirstName(author.getFirstName())
+                .authorLastName(author.getLastName())
+                .commentCount(post.getCommentCount())
+                .comments(comments)
+                .hasMoreComments(post.getCommentCount() > comments.size())
+                .images(images)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .version(post.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.pen_penned.blog.mapper;
+
+import com.pen_penned.blog.dto.request.LocalUserRequestDTO;
+import com.pen_penned.blog.dto.request.OAuth2UserRequestDTO;
+import com.pen_penned.blog.model.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps registration requests to new users. Passwords are never copied; they have to be
+ * encoded and set by the caller.
+ */
+@Component
+public class UserMapper {
+
+    public User toEntity(LocalUserRequestDTO localUserRequestDTO) {
+        return User.createUser(
+                localUserRequestDTO.getFirstName(),
+                localUserRequestDTO.getLastName(),
+                localUserRequestDTO.getEmail(),
+                null);
+    }
+
+    public User toEntity(OAuth2UserRequestDTO oauth2UserRequestDTO) {
+        return User.createUser(
+                oauth2UserRequestDTO.getFirstName(),
+                oauth2UserRequestDTO.getLastName(),
+                oauth2UserRequestDTO.getEmail(),
+                null);
+    }
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @Table(name = "comments", indexes = {
-        @Index(name = "idx_comment_post", columnList = "post_id"),
+        // Serves both per-post lookups and the newest-first comment preview, ties included
+        @Index(name = "idx_comment_post_created_id", columnList = "post_id, created_at, comment_id"),
         @Index(name = "idx_comment_author", columnList = "user_id"),
         @Index(name = "idx_comment_created_at", columnList = "created_at")
 })
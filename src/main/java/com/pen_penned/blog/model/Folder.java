@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -65,6 +66,12 @@ public class Folder {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // The default lets the column be added to existing rows
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,14 +1,19 @@
 package com.pen_penned.blog.model;
 
+import com.pen_penned.blog.config.AppConstants;
+import com.pen_penned.blog.util.ContentStats;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.validator.constraints.URL;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 
 
@@ -19,11 +24,14 @@ import java.util.*;
 @AllArgsConstructor
 @Builder(toBuilder = true)
 @Table(name = "posts", indexes = {
-        @Index(name = "idx_slug", columnList = "slug", unique = true),
+        // Covers slug lookups with an index-only scan; uniqueness is enforced by the column constraint
+        @Index(name = "idx_slug_post_id", columnList = "slug, post_id"),
         @Index(name = "idx_published", columnList = "is_published"),
         @Index(name = "idx_created_at", columnList = "created_at"),
         @Index(name = "idx_author", columnList = "user_id")
 })
+// Soft-deleted posts are invisible to every entity query; DeletedPostPurgeJob removes them later
+@SQLRestriction("deleted_at IS NULL")
 public class Post {
 
     @Id
@@ -40,12 +48,26 @@ public class Post {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // Derived from content by refreshContentStats; null until the backfill reaches older posts
+    @Column(name = "excerpt", length = AppConstants.EXCERPT_LENGTH)
+    private String excerpt;
+
+    @Column(name = "word_count")
+    private Integer wordCount;
+
+    @Column(name = "reading_time_minutes")
+    private Integer readingTimeMinutes;
+
     @Column(nullable = false, unique = true, length = 255)
     private String slug;
 
     @Column(name = "is_published", nullable = false)
     private Boolean published;
 
+    // UTC; while in the future the post stays a draft, ScheduledPostPublisher publishes it and clears this
+    @Column(name = "publish_at")
+    private LocalDateTime publishAt;
+
     @ElementCollection
     @CollectionTable(name = "post_tags", joinColumns = @JoinColumn(name = "post_id"))
     @Column(name = "tag", length = 50)
@@ -60,6 +82,12 @@ public class Post {
     @JoinColumn(name = "user_id", nullable = false)
     private User author;
 
+    // Maintained by atomic SQL increments only, so entity saves never overwrite it
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int commentCount = 0;
+
     @OneToMany(mappedBy = "post", cascade = {CascadeType.PERSIST, CascadeType.MERGE},
             orphanRemoval = true)
     @Builder.Default
@@ -81,17 +109,50 @@ public class Post {
     @Column(nullable = false)
     private long version;
 
+    // Last comment or image write; bumped by atomic SQL so it never conflicts with post edits
+    @CreationTimestamp
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "activity_at", nullable = false, updatable = false)
+    private LocalDateTime activityAt;
+
+    // Set by a bulk update only, like the counters above
+    @Column(name = "deleted_at", updatable = false)
+    private LocalDateTime deletedAt;
+
+    // Lease of the purge job run that claimed this deleted post; written by that job only
+    @Column(name = "purge_claimed_until", insertable = false, updatable = false)
+    private LocalDateTime purgeClaimedUntil;
+
 
     @PrePersist
     @PreUpdate
     public void validateSlug() {
         if (this.slug == null || this.slug.isBlank()) {
-            this.slug = generateSlugFromTitle();
+            this.slug = slugFromTitle(title);
         }
-        this.slug = this.slug.trim().toLowerCase().replaceAll("[^a-z0-9-]", "-");
+        this.slug = normalizeSlug(this.slug);
+    }
+
+    // Call whenever content is set, so listings can show the excerpt and reading time without the body
+    public void refreshContentStats() {
+        ContentStats stats = ContentStats.of(content);
+        this.excerpt = stats.excerpt();
+        this.wordCount = stats.wordCount();
+        this.readingTimeMinutes = stats.readingTimeMinutes();
+    }
+
+    // Scheduling in the past or present means publishing right away
+    public static boolean isScheduled(LocalDateTime publishAt) {
+        return publishAt != null && publishAt.isAfter(LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    // Also applied to slugs in lookups, so a URL resolves exactly when it would have been stored that way
+    public static String normalizeSlug(String slug) {
+        return slug.trim().toLowerCase().replaceAll("[^a-z0-9-]", "-");
     }
 
-    private String generateSlugFromTitle() {
+    // Random suffix, so two posts with the same title never collide
+    public static String slugFromTitle(String title) {
         String baseSlug = title.toLowerCase()
                 .replaceAll("[^a-z0-9\\s-]", "")
                 .replaceAll("\\s+", "-")
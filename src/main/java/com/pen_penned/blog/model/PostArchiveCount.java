@@ -0,0 +1,30 @@
+package com.pen_penned.blog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Number of published posts created in a month, for the archive sidebar.
+ * <p>
+ * Adjusted in place by {@code PostArchiveCountRepository.adjust} whenever a post enters or leaves
+ * the published set, and recomputed nightly by {@code PostRollupRebuildJob}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "post_archive_counts")
+public class PostArchiveCount {
+
+    // First day of the month
+    @Id
+    @Column(name = "archive_month")
+    private LocalDate month;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+}
@@ -0,0 +1,39 @@
+package com.pen_penned.blog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Sanitized HTML of a post's content, rendered once per post version.
+ * <p>
+ * Kept out of {@code posts} so loading a post never drags the rendered copy along. Rows are
+ * written by {@code PostRenderedContentRepository.upsert} and removed with their post.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "post_rendered_content")
+public class PostRenderedContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    // Post version the HTML was rendered from
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "content_html", nullable = false, columnDefinition = "TEXT")
+    private String contentHtml;
+}
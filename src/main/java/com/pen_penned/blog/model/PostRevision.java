@@ -0,0 +1,61 @@
+package com.pen_penned.blog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * One saved state of a post's title and content.
+ * <p>
+ * Most revisions store only a {@link com.pen_penned.blog.util.ContentDelta} against the
+ * previous revision; every few revisions a full snapshot is stored instead, so rebuilding any
+ * revision applies a bounded number of deltas.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "post_revisions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_revision_number",
+                columnNames = {"post_id", "revision_number"}))
+public class PostRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revision_id", updatable = false)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Post post;
+
+    @Column(name = "revision_number", nullable = false)
+    private int revisionNumber;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    // Full content when snapshot is set, otherwise the delta against the previous revision
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Column(name = "editor_id")
+    private Long editorId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.pen_penned.blog.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Number of published posts carrying a tag.
+ * <p>
+ * Maintained the same way as {@link PostArchiveCount}. Rows of tags no post uses any more stay
+ * at zero until the rebuild job removes them.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "tag_counts", indexes = {
+        @Index(name = "idx_tag_counts_post_count", columnList = "post_count, tag")
+})
+public class TagCount {
+
+    @Id
+    @Column(length = 50)
+    private String tag;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+}
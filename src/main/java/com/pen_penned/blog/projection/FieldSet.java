@@ -0,0 +1,63 @@
+package com.pen_penned.blog.projection;
+
+import com.pen_penned.blog.exception.APIException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fields a client asked for with {@code fields=a,b,c}, validated against what the resource
+ * exposes. The id is always included so rows can be told apart and associations attached.
+ */
+public final class FieldSet {
+
+    private final Set<String> names;
+
+    private FieldSet(Set<String> names) {
+        this.names = names;
+    }
+
+    public static FieldSet parse(String fields, Collection<String> allowed) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add("id");
+
+        List<String> unknown = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (allowed.contains(name)) {
+                names.add(name);
+            } else {
+                unknown.add(name);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            throw new APIException("Unknown fields " + unknown + ", allowed fields are " + allowed);
+        }
+        return new FieldSet(names);
+    }
+
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+
+    // Selected fields that map to a column expression, in the order they were requested
+    public Map<String, String> columns(Map<String, String> expressions) {
+        Map<String, String> columns = new LinkedHashMap<>();
+        for (String name : names) {
+            String expression = expressions.get(name);
+            if (expression != null) {
+                columns.put(name, expression);
+            }
+        }
+        return columns;
+    }
+}
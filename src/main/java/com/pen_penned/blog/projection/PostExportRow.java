@@ -0,0 +1,17 @@
+package com.pen_penned.blog.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A post as read by the export cursor. Being a plain projection rather than an entity, rows
+ * never pile up in the persistence context while the cursor is open.
+ */
+public record PostExportRow(Long id, String title, String slug, String content, Boolean published,
+                            LocalDateTime publishAt, String coverImageUrl, LocalDateTime createdAt,
+                            LocalDateTime updatedAt) {
+
+    // Same name in the archive and in its manifest
+    public String fileName() {
+        return "posts/" + id + "-" + slug + ".md";
+    }
+}
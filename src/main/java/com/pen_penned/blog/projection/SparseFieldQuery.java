@@ -0,0 +1,11 @@
+package com.pen_penned.blog.projection;
+
+import java.util.Map;
+
+/**
+ * A narrowed select over one entity: only {@code columns} are read, filtered by an optional
+ * JPQL {@code where} clause written against {@code alias}.
+ */
+public record SparseFieldQuery(Class<?> entity, String alias, Map<String, String> columns,
+                               String where, Map<String, Object> parameters) {
+}
@@ -0,0 +1,107 @@
+package com.pen_penned.blog.projection;
+
+import com.pen_penned.blog.exception.APIException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Runs {@link SparseFieldQuery} selects and returns each row as an ordered map, so the
+ * database reads and Jackson writes exactly the selected fields.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SparseFieldRepository {
+
+    // Same format as the @JsonFormat on the response DTOs
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final EntityManager entityManager;
+
+    public Slice<Map<String, Object>> findSlice(SparseFieldQuery query, Pageable pageable) {
+        TypedQuery<Tuple> select = entityManager.createQuery(
+                selectClause(query) + fromClause(query) + orderByClause(query, pageable.getSort()), Tuple.class);
+        query.parameters().forEach(select::setParameter);
+        select.setFirstResult((int) pageable.getOffset());
+
+        // One row past the page tells whether there is a next page without counting
+        select.setMaxResults(pageable.getPageSize() + 1);
+
+        List<Map<String, Object>> rows = select.getResultList().stream()
+                .map(tuple -> toRow(query, tuple))
+                .toList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    public Optional<Map<String, Object>> findOne(SparseFieldQuery query) {
+        TypedQuery<Tuple> select = entityManager.createQuery(selectClause(query) + fromClause(query), Tuple.class);
+        query.parameters().forEach(select::setParameter);
+        select.setMaxResults(1);
+
+        return select.getResultList().stream()
+                .findFirst()
+                .map(tuple -> toRow(query, tuple));
+    }
+
+    public long count(SparseFieldQuery query) {
+        TypedQuery<Long> count = entityManager.createQuery(
+                "SELECT COUNT(" + query.alias() + ")" + fromClause(query), Long.class);
+        query.parameters().forEach(count::setParameter);
+        return count.getSingleResult();
+    }
+
+    private String selectClause(SparseFieldQuery query) {
+        return query.columns().values().stream()
+                .collect(Collectors.joining(", ", "SELECT ", ""));
+    }
+
+    private String fromClause(SparseFieldQuery query) {
+        String from = " FROM " + query.entity().getSimpleName() + " " + query.alias();
+        return query.where() == null ? from : from + " WHERE " + query.where();
+    }
+
+    // Sort properties come from request parameters, so only real attributes of the entity are accepted
+    private String orderByClause(SparseFieldQuery query, Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+
+        return sort.stream()
+                .map(order -> {
+                    try {
+                        entityManager.getMetamodel().entity(query.entity()).getAttribute(order.getProperty());
+                    } catch (IllegalArgumentException e) {
+                        throw new APIException("Cannot sort by " + order.getProperty());
+                    }
+                    return query.alias() + "." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .collect(Collectors.joining(", ", " ORDER BY ", ""));
+    }
+
+    private Map<String, Object> toRow(SparseFieldQuery query, Tuple tuple) {
+        // Tuple elements follow the column order of the select clause
+        Map<String, Object> row = new LinkedHashMap<>();
+        int index = 0;
+        for (String name : query.columns().keySet()) {
+            Object value = tuple.get(index++);
+            row.put(name, value instanceof LocalDateTime dateTime ? DATE_TIME_FORMAT.format(dateTime) : value);
+        }
+        return row;
+    }
+}
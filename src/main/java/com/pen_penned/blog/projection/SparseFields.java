@@ -0,0 +1,67 @@
+package com.pen_penned.blog.projection;
+
+import com.pen_penned.blog.repositories.PostRepository;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fields each resource exposes to {@code fields=} selection, as JPQL expressions over the
+ * resource's alias. Author and post names are reached through implicit joins, so the join is
+ * only made when one of those fields is selected.
+ */
+public final class SparseFields {
+
+    public static final Map<String, String> POST_COLUMNS = Map.ofEntries(
+            Map.entry("id", "p.id"),
+            Map.entry("title", "p.title"),
+            Map.entry("slug", "p.slug"),
+            Map.entry("content", "p.content"),
+            Map.entry("excerpt", PostRepository.EXCERPT),
+            Map.entry("wordCount", "p.wordCount"),
+            Map.entry("readingTimeMinutes", "p.readingTimeMinutes"),
+            Map.entry("coverImageUrl", "p.coverImageUrl"),
+            Map.entry("published", "p.published"),
+            Map.entry("authorId", "p.author.id"),
+            Map.entry("authorFirstName", "p.author.firstName"),
+            Map.entry("authorLastName", "p.author.lastName"),
+            Map.entry("commentCount", "p.commentCount"),
+            Map.entry("createdAt", "p.createdAt"),
+            Map.entry("updatedAt", "p.updatedAt")
+    );
+
+    // Loaded in one batch per page, and only when selected
+    public static final Set<String> POST_COLLECTIONS = Set.of("tags", "images");
+
+    public static final Set<String> POST_FIELDS = union(POST_COLUMNS.keySet(), POST_COLLECTIONS);
+
+    public static final Map<String, String> COMMENT_COLUMNS = Map.of(
+            "id", "c.id",
+            "content", "c.content",
+            "authorId", "c.author.id",
+            "authorFirstName", "c.author.firstName",
+            "authorLastName", "c.author.lastName",
+            "postId", "c.post.id",
+            "createdAt", "c.createdAt",
+            "updatedAt", "c.updatedAt"
+    );
+
+    public static final Map<String, String> BOOKMARK_COLUMNS = Map.of(
+            "id", "b.id",
+            "userId", "b.user.id",
+            "postId", "b.post.id",
+            "postTitle", "b.post.title",
+            "createdAt", "b.createdAt",
+            "updatedAt", "b.updatedAt"
+    );
+
+    private SparseFields() {
+    }
+
+    private static Set<String> union(Set<String> first, Set<String> second) {
+        Set<String> union = new HashSet<>(first);
+        union.addAll(second);
+        return Set.copyOf(union);
+    }
+}
@@ -0,0 +1,14 @@
+package com.pen_penned.blog.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * A post as listed in an RSS or Atom feed: card columns and the author's name, no body.
+ */
+public record SyndicationEntry(Long id, String title, String slug, String summary, LocalDateTime createdAt,
+                               LocalDateTime updatedAt, String authorFirstName, String authorLastName) {
+
+    public String authorName() {
+        return (authorFirstName + " " + (authorLastName != null ? authorLastName : "")).trim();
+    }
+}
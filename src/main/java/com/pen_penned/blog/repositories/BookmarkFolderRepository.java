@@ -1,8 +1,8 @@
 package com.pen_penned.blog.repositories;
 
 import com.pen_penned.blog.model.BookmarkFolder;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -18,7 +18,8 @@ public interface BookmarkFolderRepository extends JpaRepository<BookmarkFolder,
 
     Optional<BookmarkFolder> findByBookmarkIdAndFolderId(Long bookmarkId, Long folderId);
 
-    Page<BookmarkFolder> findByFolderId(Long folderId, Pageable pageable);
+    @Query("SELECT bf FROM BookmarkFolder bf WHERE bf.folder.id = :folderId AND bf.bookmark.post.deletedAt IS NULL")
+    Slice<BookmarkFolder> findByFolderId(@Param("folderId") Long folderId, Pageable pageable);
 
     @Query("SELECT bf FROM BookmarkFolder bf JOIN FETCH bf.folder WHERE bf.bookmark.id = :bookmarkId")
     List<BookmarkFolder> findByBookmarkIdWithFolder(@Param("bookmarkId") Long bookmarkId);
@@ -3,6 +3,7 @@ package com.pen_penned.blog.repositories;
 import com.pen_penned.blog.model.Bookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,8 +18,12 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     // Check if a bookmark exists for a specific user and post
     boolean existsByUserIdAndPostId(Long id, Long postId); */
 
-    @Query("SELECT b FROM Bookmark b WHERE b.user.id = :userId")
-    Page<Bookmark> findBookmarksByUserId(@Param("userId") Long userId, Pageable pageDetails);
+    // Bookmarks of soft-deleted posts are hidden until the purge job removes them
+    @Query("SELECT b FROM Bookmark b WHERE b.user.id = :userId AND b.post.deletedAt IS NULL")
+    Slice<Bookmark> findBookmarksByUserId(@Param("userId") Long userId, Pageable pageDetails);
+
+    @Query("SELECT COUNT(b) FROM Bookmark b WHERE b.user.id = :userId AND b.post.deletedAt IS NULL")
+    long countByUserId(@Param("userId") Long userId);
 
     @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Bookmark b WHERE b.user.id = :userId AND b.post.id = :postId")
     boolean existsByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
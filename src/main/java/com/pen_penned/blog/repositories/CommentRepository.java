@@ -1,18 +1,42 @@
 package com.pen_penned.blog.repositories;
 
 import com.pen_penned.blog.model.Comment;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @EntityGraph(attributePaths = "author")
     @Query("SELECT c FROM Comment c WHERE c.post.id = :postId")
-    Page<Comment> findCommentsByPostId(@Param("postId") Long postId, Pageable pageDetails);
+    Slice<Comment> findCommentsByPostId(@Param("postId") Long postId, Pageable pageDetails);
+
+    // Newest comments of a post with their authors, read backwards from idx_comment_post_created_id
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.post.id = :postId " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Comment> findLatestByPostId(@Param("postId") Long postId, Limit limit);
+
+    @Query("SELECT c.post.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findPostIdById(@Param("commentId") Long commentId);
+
+    @Query("SELECT c.version FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findVersionById(@Param("commentId") Long commentId);
+
+    // If-Match delete: ownership and version in one statement, no entity loaded
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :commentId AND c.author.id = :authorId AND c.version = :version")
+    int deleteOwnedVersion(@Param("commentId") Long commentId, @Param("authorId") Long authorId,
+                           @Param("version") long version);
 
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId")
     int getCommentCountByPostId(@Param("postId") Long postId);
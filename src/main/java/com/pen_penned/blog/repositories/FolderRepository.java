@@ -1,8 +1,8 @@
 package com.pen_penned.blog.repositories;
 
 import com.pen_penned.blog.model.Folder;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,15 +12,23 @@ import java.util.Optional;
 
 public interface FolderRepository extends JpaRepository<Folder, Long> {
 
-    Page<Folder> findByUserId(Long userId, Pageable pageDetails);
+    Slice<Folder> findByUserId(Long userId, Pageable pageDetails);
+
+    long countByUserId(Long userId);
 
     Optional<Folder> findByIdAndUserId(Long id, Long userId);
 
     boolean existsByNameAndUserId(String name, Long userId);
 
+    boolean existsByNameAndUserIdAndIdNot(String name, Long userId, Long id);
+
+    @Query("SELECT f.version FROM Folder f WHERE f.id = :folderId")
+    Optional<Long> findVersionById(@Param("folderId") Long folderId);
+
     @Query("SELECT f FROM Folder f JOIN FETCH f.bookmarkFolders bf JOIN FETCH bf.bookmark b WHERE b.id = :bookmarkId")
     List<Folder> findByBookmarkId(@Param("bookmarkId") Long bookmarkId);
 
-    @Query("SELECT COUNT(bf) FROM BookmarkFolder bf WHERE bf.folder.id = :folderId")
+    @Query("SELECT COUNT(bf) FROM BookmarkFolder bf WHERE bf.folder.id = :folderId " +
+            "AND bf.bookmark.post.deletedAt IS NULL")
     Integer countBookmarksInFolder(@Param("folderId") Long folderId);
 }
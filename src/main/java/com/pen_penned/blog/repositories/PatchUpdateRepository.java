@@ -0,0 +1,63 @@
+package com.pen_penned.blog.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Applies merge patches as a single JPQL {@code UPDATE} of only the patched columns, so
+ * unchanged columns, such as a post's content on a publish toggle, are never rewritten and
+ * nothing is loaded first.
+ * <p>
+ * Ownership and, when given, the expected version are part of the {@code WHERE} clause, so
+ * the checks and the write are one atomic statement. The version is bumped and
+ * {@code updatedAt} set, as Hibernate would on a regular update. Attribute names come from
+ * the services, never from the request.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PatchUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param entity          The entity class to update
+     * @param id              Primary key of the row
+     * @param ownerAttribute  Path to the owner's id, e.g. {@code author.id}
+     * @param ownerId         The user who must own the row
+     * @param expectedVersion Version the row must still have, or null to skip the check
+     * @param assignments     Attribute names and their new values
+     * @return The number of rows updated, zero when any of the checks failed
+     */
+    public int update(Class<?> entity, Long id, String ownerAttribute, Long ownerId, Long expectedVersion,
+                      Map<String, Object> assignments) {
+        String set = assignments.keySet().stream()
+                .map(attribute -> "e." + attribute + " = :" + parameterName(attribute))
+                .collect(Collectors.joining(", ", "", assignments.isEmpty() ? "" : ", "));
+
+        String jpql = "UPDATE " + entity.getSimpleName() + " e SET " + set +
+                "e.version = e.version + 1, e.updatedAt = :updatedAt " +
+                "WHERE e.id = :id AND e." + ownerAttribute + " = :ownerId" +
+                (expectedVersion != null ? " AND e.version = :expectedVersion" : "");
+
+        Query update = entityManager.createQuery(jpql);
+        assignments.forEach((attribute, value) -> update.setParameter(parameterName(attribute), value));
+        update.setParameter("updatedAt", LocalDateTime.now());
+        update.setParameter("id", id);
+        update.setParameter("ownerId", ownerId);
+        if (expectedVersion != null) {
+            update.setParameter("expectedVersion", expectedVersion);
+        }
+
+        return update.executeUpdate();
+    }
+
+    private static String parameterName(String attribute) {
+        return "patch_" + attribute.replace('.', '_');
+    }
+}
@@ -0,0 +1,52 @@
+package com.pen_penned.blog.repositories;
+
+import com.pen_penned.blog.dto.response.ArchiveMonthResponse;
+import com.pen_penned.blog.model.PostArchiveCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostArchiveCountRepository extends JpaRepository<PostArchiveCount, LocalDate> {
+
+    // Month a post is archived under
+    String MONTH = "CAST(date_trunc('month', p.created_at) AS date)";
+
+    // Posts the sidebar counts
+    String COUNTED = "p.is_published = true AND p.deleted_at IS NULL";
+
+    @Query("SELECT new com.pen_penned.blog.dto.response.ArchiveMonthResponse(c.month, c.postCount) " +
+            "FROM PostArchiveCount c WHERE c.postCount > 0 ORDER BY c.month DESC")
+    List<ArchiveMonthResponse> findArchive();
+
+    // Adds delta for every counted post among postIds, as they are in the database right now.
+    // Rows are upserted in key order, so concurrent adjustments cannot deadlock on each other
+    @Modifying
+    @Query(value = "INSERT INTO post_archive_counts (archive_month, post_count) " +
+            "SELECT " + MONTH + ", :delta * COUNT(*) FROM posts p " +
+            "WHERE p.post_id IN (:postIds) AND " + COUNTED + " GROUP BY 1 ORDER BY 1 " +
+            "ON CONFLICT (archive_month) DO UPDATE " +
+            "SET post_count = post_archive_counts.post_count + EXCLUDED.post_count",
+            nativeQuery = true)
+    int adjust(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO post_archive_counts (archive_month, post_count) " +
+            "SELECT " + MONTH + ", COUNT(*) FROM posts p WHERE " + COUNTED + " GROUP BY 1 ORDER BY 1 " +
+            "ON CONFLICT (archive_month) DO UPDATE SET post_count = EXCLUDED.post_count " +
+            "WHERE post_archive_counts.post_count <> EXCLUDED.post_count",
+            nativeQuery = true)
+    int rebuildCounted();
+
+    @Modifying
+    @Query(value = "DELETE FROM post_archive_counts c WHERE NOT EXISTS (" +
+            "SELECT 1 FROM posts p WHERE " + COUNTED + " AND " + MONTH + " = c.archive_month)",
+            nativeQuery = true)
+    int deleteUncounted();
+}
@@ -1,9 +1,15 @@
 package com.pen_penned.blog.repositories;
 
 import com.pen_penned.blog.model.PostImage;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +18,18 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
 
     List<PostImage> findByPostId(Long postId);
 
+    List<PostImage> findByPostIdIn(Collection<Long> postIds);
+
     Optional<PostImage> findByS3Key(String s3Key);
 
     void deleteByS3Key(String s3Key);
+
+    // Images of a soft-deleted post, one purge chunk at a time; the post itself is not joined
+    @Query("SELECT i FROM PostImage i WHERE i.post.id = :postId ORDER BY i.id")
+    List<PostImage> findPurgeChunk(@Param("postId") Long postId, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM PostImage i WHERE i.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,28 @@
+package com.pen_penned.blog.repositories;
+
+import com.pen_penned.blog.model.PostRenderedContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface PostRenderedContentRepository extends JpaRepository<PostRenderedContent, Long> {
+
+    @Query("SELECT r.contentHtml FROM PostRenderedContent r WHERE r.postId = :postId AND r.version = :version")
+    Optional<String> findHtml(@Param("postId") Long postId, @Param("version") long version);
+
+    // Never replaces HTML of a newer version, so a slow render cannot overwrite a faster one
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO post_rendered_content (post_id, version, content_html) " +
+            "VALUES (:postId, :version, :html) " +
+            "ON CONFLICT (post_id) DO UPDATE SET version = EXCLUDED.version, content_html = EXCLUDED.content_html " +
+            "WHERE post_rendered_content.version < EXCLUDED.version",
+            nativeQuery = true)
+    int upsert(@Param("postId") Long postId, @Param("version") long version, @Param("html") String html);
+}
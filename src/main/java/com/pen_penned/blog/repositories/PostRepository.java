@@ -1,14 +1,247 @@
 package com.pen_penned.blog.repositories;
 
+import com.pen_penned.blog.cache.PostCacheStamp;
+import com.pen_penned.blog.config.AppConstants;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
 import com.pen_penned.blog.model.Post;
 import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.projection.PostExportRow;
+import com.pen_penned.blog.projection.SyndicationEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // Card columns only; posts the backfill has not reached yet get their excerpt cut in the database
+    String EXCERPT = "COALESCE(p.excerpt, SUBSTRING(p.content, 1, " + AppConstants.EXCERPT_LENGTH + "))";
+
+    String SUMMARY_SELECT = "SELECT new com.pen_penned.blog.dto.response.PostSummaryResponse(" +
+            "p.id, p.title, p.slug, " + EXCERPT + ", p.wordCount, p.readingTimeMinutes, " +
+            "p.coverImageUrl, p.published, a.id, a.firstName, a.lastName, p.commentCount, " +
+            "p.createdAt, p.updatedAt, p.version) " +
+            "FROM Post p JOIN p.author a ";
+
+    String STAMP_SELECT = "SELECT new com.pen_penned.blog.cache.PostCacheStamp(" +
+            "p.id, p.slug, p.version, p.commentCount, p.updatedAt, p.activityAt) FROM Post p ";
+
+    // Keyset predicate of the feed; a row comparison is the index condition that starts the scan at the cursor
+    String FEED_AFTER = "(p.createdAt, p.id) < (:createdAt, :postId)";
+
+    // Rows per round trip of the streaming cursors
+    String CURSOR_FETCH_SIZE = "100";
+
+    // Sitemap rows are two short columns, so fewer, larger round trips
+    String SITEMAP_FETCH_SIZE = "1000";
+
+    // Keeps activity_at strictly increasing so validators change even for writes in the same millisecond
+    String TOUCH_ACTIVITY = "activity_at = GREATEST(CAST(clock_timestamp() AT TIME ZONE 'UTC' AS timestamp), " +
+            "activity_at + INTERVAL '1 millisecond')";
+
+    @Override
+    @EntityGraph(attributePaths = "author")
+    Page<Post> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
     Page<Post> findByAuthor(User author, Pageable pageDetails);
+
+    // Public listings only ever show published posts; see SchemaIndexInitializer for the partial indexes
+    // Slices read one row past the page instead of counting; see countByPublishedTrue
+    @EntityGraph(attributePaths = "author")
+    Slice<Post> findByPublishedTrue(Pageable pageable);
+
+    long countByPublishedTrue();
+
+    @EntityGraph(attributePaths = "author")
+    Page<Post> findByAuthorIdAndPublishedTrue(Long authorId, Pageable pageable);
+
+    // Keyset feed pages ordered by (created_at, post_id), a range scan on idx_posts_visible_feed without a COUNT
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT p FROM Post p WHERE p.published = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findFeedFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("SELECT p FROM Post p WHERE p.published = true AND " + FEED_AFTER + " " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findFeedPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                 @Param("postId") Long postId,
+                                 Limit limit);
+
+    // Multi-get by primary key; callers restore the requested order
+    @EntityGraph(attributePaths = "author")
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryResponse> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SUMMARY_SELECT + "WHERE p.published = true")
+    Slice<PostSummaryResponse> findAllSummaries(Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE a.id = :authorId AND p.published = true",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author.id = :authorId AND p.published = true")
+    Page<PostSummaryResponse> findSummariesByAuthorId(@Param("authorId") Long authorId, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE p.published = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryResponse> findFeedSummaryFirstPage(Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE p.published = true AND " + FEED_AFTER + " " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryResponse> findFeedSummaryPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("postId") Long postId,
+                                                       Limit limit);
+
+    // Tags for a whole page of posts as (postId, tag) pairs
+    @Query("SELECT p.id, t FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+    List<Object[]> findTagsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // Single index lookup used to validate cached post details and conditional requests
+    @Query(STAMP_SELECT + "WHERE p.id = :postId")
+    Optional<PostCacheStamp> findCacheStampById(@Param("postId") Long postId);
+
+    // Single columns read by merge patches, so the post itself is never loaded
+    @Query("SELECT p.title FROM Post p WHERE p.id = :postId")
+    Optional<String> findTitleById(@Param("postId") Long postId);
+
+    @Query("SELECT p.content FROM Post p WHERE p.id = :postId")
+    Optional<String> findContentById(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "DELETE FROM post_tags WHERE post_id = :postId", nativeQuery = true)
+    void deleteTags(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "INSERT INTO post_tags (post_id, tag) VALUES (:postId, :tag)", nativeQuery = true)
+    void insertTag(@Param("postId") Long postId, @Param("tag") String tag);
+
+    // Index-only scan on idx_slug_post_id
+    @Query("SELECT p.id FROM Post p WHERE p.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    // Validators for listing pages, same filters and ordering as the listing queries
+    @Query(STAMP_SELECT + "WHERE p.published = true")
+    Slice<PostCacheStamp> findAllStamps(Pageable pageable);
+
+    @Query(STAMP_SELECT + "WHERE p.published = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCacheStamp> findFeedStampFirstPage(Limit limit);
+
+    @Query(STAMP_SELECT + "WHERE p.published = true AND " + FEED_AFTER + " " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostCacheStamp> findFeedStampPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("postId") Long postId,
+                                                Limit limit);
+
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Long findMaxPostId();
+
+    // Forward-only cursors for exports; they must be consumed inside a transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CURSOR_FETCH_SIZE))
+    @Query("SELECT new com.pen_penned.blog.projection.PostExportRow(p.id, p.title, p.slug, p.content, " +
+            "p.published, p.publishAt, p.coverImageUrl, p.createdAt, p.updatedAt) " +
+            "FROM Post p WHERE p.author.id = :authorId ORDER BY p.id")
+    Stream<PostExportRow> streamExportRows(@Param("authorId") Long authorId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CURSOR_FETCH_SIZE))
+    @Query("SELECT p.id, p.title, p.slug, p.published, p.createdAt FROM Post p " +
+            "WHERE p.author.id = :authorId ORDER BY p.id")
+    Stream<Object[]> streamManifestRows(@Param("authorId") Long authorId);
+
+    // Newest published posts for the syndication feeds, same order as the post feed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CURSOR_FETCH_SIZE))
+    @Query("SELECT new com.pen_penned.blog.projection.SyndicationEntry(p.id, p.title, p.slug, " + EXCERPT + ", " +
+            "p.createdAt, p.updatedAt, a.firstName, a.lastName) " +
+            "FROM Post p JOIN p.author a WHERE p.published = true ORDER BY p.createdAt DESC, p.id DESC")
+    Stream<SyndicationEntry> streamSyndicationEntries(Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = CURSOR_FETCH_SIZE))
+    @Query("SELECT new com.pen_penned.blog.projection.SyndicationEntry(p.id, p.title, p.slug, " + EXCERPT + ", " +
+            "p.createdAt, p.updatedAt, a.firstName, a.lastName) " +
+            "FROM Post p JOIN p.author a WHERE p.published = true AND a.id = :authorId " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    Stream<SyndicationEntry> streamSyndicationEntriesByAuthor(@Param("authorId") Long authorId, Limit limit);
+
+    // Latest edit among exactly the rows the feed streams, for its lastBuildDate and updated
+    @Query("SELECT MAX(p.updatedAt) FROM Post p WHERE p.id IN (" +
+            "SELECT f.id FROM Post f WHERE f.published = true " +
+            "ORDER BY f.createdAt DESC, f.id DESC LIMIT :size)")
+    LocalDateTime findSyndicationUpdatedAt(@Param("size") int size);
+
+    @Query("SELECT MAX(p.updatedAt) FROM Post p WHERE p.id IN (" +
+            "SELECT f.id FROM Post f WHERE f.published = true AND f.author.id = :authorId " +
+            "ORDER BY f.createdAt DESC, f.id DESC LIMIT :size)")
+    LocalDateTime findSyndicationUpdatedAtByAuthor(@Param("authorId") Long authorId, @Param("size") int size);
+
+    // Published posts of one sitemap file, walked along the primary key
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = SITEMAP_FETCH_SIZE))
+    @Query("SELECT p.slug, p.updatedAt FROM Post p " +
+            "WHERE p.id BETWEEN :fromId AND :toId AND p.published = true ORDER BY p.id")
+    Stream<Object[]> streamSitemapRows(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    boolean existsByIdAndPublishedTrue(Long id);
+
+    // The feeds, sitemap and archive all order or bucket by created_at, so a post that goes live
+    // is dated to that moment; created_at is not updatable through the entity
+    @Modifying
+    @Query(value = "UPDATE posts SET created_at = :publishedAt WHERE post_id = :postId", nativeQuery = true)
+    int updatePublishedAt(@Param("postId") Long postId, @Param("publishedAt") LocalDateTime publishedAt);
+
+    // Hides the post from every entity query at once; DeletedPostPurgeJob removes it and its dependents
+    @Modifying
+    @Query(value = "UPDATE posts SET deleted_at = CAST(clock_timestamp() AT TIME ZONE 'UTC' AS timestamp), " +
+            "version = version + 1 WHERE post_id = :postId AND version = :version AND deleted_at IS NULL",
+            nativeQuery = true)
+    int softDelete(@Param("postId") Long postId, @Param("version") long version);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = comment_count + 1, " + TOUCH_ACTIVITY +
+            " WHERE post_id = :postId",
+            nativeQuery = true)
+    int incrementCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = GREATEST(comment_count - 1, 0), " + TOUCH_ACTIVITY +
+            " WHERE post_id = :postId",
+            nativeQuery = true)
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    // Records a comment or image change without bumping the version
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts SET " + TOUCH_ACTIVITY + " WHERE post_id = :postId", nativeQuery = true)
+    int touchActivity(@Param("postId") Long postId);
+
+    // Recomputes comment_count for one id range and returns how many rows had drifted
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE posts p SET comment_count = c.actual " +
+            "FROM (SELECT p2.post_id, COUNT(cm.comment_id) AS actual " +
+            "      FROM posts p2 LEFT JOIN comments cm ON cm.post_id = p2.post_id " +
+            "      WHERE p2.post_id BETWEEN :fromId AND :toId " +
+            "      GROUP BY p2.post_id) c " +
+            "WHERE p.post_id = c.post_id AND p.comment_count <> c.actual",
+            nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    // True while posts from before comment_count existed still read zero
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM posts p WHERE p.comment_count = 0 " +
+            "AND EXISTS (SELECT 1 FROM comments c WHERE c.post_id = p.post_id))",
+            nativeQuery = true)
+    boolean existsUncountedComments();
 }
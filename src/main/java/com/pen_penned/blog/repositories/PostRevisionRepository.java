@@ -0,0 +1,37 @@
+package com.pen_penned.blog.repositories;
+
+import com.pen_penned.blog.dto.response.PostRevisionSummaryResponse;
+import com.pen_penned.blog.model.PostRevision;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PostRevisionRepository extends JpaRepository<PostRevision, Long> {
+
+    @Query("SELECT MAX(r.revisionNumber) FROM PostRevision r WHERE r.post.id = :postId")
+    Optional<Integer> findLatestRevisionNumber(@Param("postId") Long postId);
+
+    // Listing metadata only; bodies stay in the database
+    @Query("SELECT new com.pen_penned.blog.dto.response.PostRevisionSummaryResponse(" +
+            "r.revisionNumber, r.title, r.snapshot, r.contentLength, LENGTH(r.body), r.editorId, r.createdAt) " +
+            "FROM PostRevision r WHERE r.post.id = :postId")
+    Slice<PostRevisionSummaryResponse> findSummariesByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    long countByPostId(Long postId);
+
+    // The nearest snapshot at or before the revision, followed by the deltas up to it
+    @Query("SELECT r FROM PostRevision r WHERE r.post.id = :postId " +
+            "AND r.revisionNumber <= :revisionNumber " +
+            "AND r.revisionNumber >= (SELECT MAX(s.revisionNumber) FROM PostRevision s " +
+            "WHERE s.post.id = :postId AND s.snapshot = true AND s.revisionNumber <= :revisionNumber) " +
+            "ORDER BY r.revisionNumber")
+    List<PostRevision> findReconstructionChain(@Param("postId") Long postId,
+                                               @Param("revisionNumber") int revisionNumber);
+}
@@ -0,0 +1,37 @@
+package com.pen_penned.blog.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Row estimates from the Postgres planner statistics, kept current by autovacuum and
+ * {@code ANALYZE}. Reading them is a catalog lookup rather than a scan.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableStatisticsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Estimated number of rows in a table or index. A partial index estimates the rows
+     * matching its predicate.
+     *
+     * @param relation Table or index name
+     * @return The estimate, or empty when the relation does not exist or has not been analyzed yet
+     */
+    public OptionalLong estimateRows(String relation) {
+        List<Long> estimates = jdbcTemplate.queryForList(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, relation);
+
+        // -1 (0 before Postgres 14) until the first ANALYZE
+        if (estimates.isEmpty() || estimates.get(0) == null || estimates.get(0) <= 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(estimates.get(0));
+    }
+}
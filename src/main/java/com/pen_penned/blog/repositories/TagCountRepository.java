@@ -0,0 +1,48 @@
+package com.pen_penned.blog.repositories;
+
+import com.pen_penned.blog.dto.response.TagCountResponse;
+import com.pen_penned.blog.model.TagCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TagCountRepository extends JpaRepository<TagCount, String> {
+
+    @Query("SELECT new com.pen_penned.blog.dto.response.TagCountResponse(c.tag, c.postCount) " +
+            "FROM TagCount c WHERE c.postCount > 0 ORDER BY c.postCount DESC, c.tag")
+    List<TagCountResponse> findTopTags(Limit limit);
+
+    // Same contract as PostArchiveCountRepository.adjust; a tag repeated on one post counts once
+    @Modifying
+    @Query(value = "INSERT INTO tag_counts (tag, post_count) " +
+            "SELECT t.tag, :delta * COUNT(DISTINCT t.post_id) FROM post_tags t " +
+            "JOIN posts p ON p.post_id = t.post_id " +
+            "WHERE t.post_id IN (:postIds) AND " + PostArchiveCountRepository.COUNTED + " " +
+            "GROUP BY t.tag ORDER BY t.tag " +
+            "ON CONFLICT (tag) DO UPDATE SET post_count = tag_counts.post_count + EXCLUDED.post_count",
+            nativeQuery = true)
+    int adjust(@Param("postIds") Collection<Long> postIds, @Param("delta") int delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO tag_counts (tag, post_count) " +
+            "SELECT t.tag, COUNT(DISTINCT t.post_id) FROM post_tags t JOIN posts p ON p.post_id = t.post_id " +
+            "WHERE " + PostArchiveCountRepository.COUNTED + " GROUP BY t.tag ORDER BY t.tag " +
+            "ON CONFLICT (tag) DO UPDATE SET post_count = EXCLUDED.post_count " +
+            "WHERE tag_counts.post_count <> EXCLUDED.post_count",
+            nativeQuery = true)
+    int rebuildCounted();
+
+    @Modifying
+    @Query(value = "DELETE FROM tag_counts c WHERE NOT EXISTS (" +
+            "SELECT 1 FROM post_tags t JOIN posts p ON p.post_id = t.post_id " +
+            "WHERE t.tag = c.tag AND " + PostArchiveCountRepository.COUNTED + ")",
+            nativeQuery = true)
+    int deleteUncounted();
+}
@@ -0,0 +1,61 @@
+package com.pen_penned.blog.runner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Creates indexes that JPA's {@code @Index} cannot describe, such as partial indexes, and drops
+ * indexes that a renamed {@code @Index} replaced, which {@code ddl-auto: update} leaves behind.
+ * <p>
+ * Every statement is idempotent, so this is safe to run on each start alongside
+ * {@code ddl-auto}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaIndexInitializer implements CommandLineRunner {
+
+    // Its planner row estimate doubles as the estimated number of published posts
+    public static final String PUBLISHED_FEED_INDEX = "idx_posts_visible_feed";
+
+    private static final List<String> INDEXES = List.of(
+            // Published feed, newest first; drafts and soft-deleted posts never enter the index, so the
+            // deleted_at IS NULL that every entity query carries needs no filter step
+            "CREATE INDEX IF NOT EXISTS " + PUBLISHED_FEED_INDEX + " " +
+                    "ON posts (created_at DESC, post_id DESC) WHERE is_published = true AND deleted_at IS NULL",
+            // Published posts of one author, newest first
+            "CREATE INDEX IF NOT EXISTS idx_posts_author_visible_feed " +
+                    "ON posts (user_id, created_at DESC, post_id DESC) WHERE is_published = true AND deleted_at IS NULL",
+            // Replaced by the two above, which leave soft-deleted posts out
+            "DROP INDEX IF EXISTS idx_posts_published_feed",
+            "DROP INDEX IF EXISTS idx_posts_author_published_feed",
+            // Posts still waiting for ContentStatsBackfillJob; empty once the backfill has run
+            "CREATE INDEX IF NOT EXISTS idx_posts_missing_content_stats " +
+                    "ON posts (post_id) WHERE word_count IS NULL",
+            // Drafts waiting for ScheduledPostPublisher, in due order
+            "CREATE INDEX IF NOT EXISTS idx_posts_scheduled " +
+                    "ON posts (publish_at) WHERE is_published = false AND publish_at IS NOT NULL",
+            // Soft-deleted posts waiting for DeletedPostPurgeJob; empty whenever the purge has caught up
+            "CREATE INDEX IF NOT EXISTS idx_posts_pending_purge " +
+                    "ON posts (deleted_at) WHERE deleted_at IS NOT NULL",
+            // Replaced by idx_comment_post_created_id, whose leading post_id column serves the same lookups
+            "DROP INDEX IF EXISTS idx_comment_post",
+            // Replaced by idx_slug_post_id; the unique constraint on the slug column has its own index
+            "DROP INDEX IF EXISTS idx_slug"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        for (String statement : INDEXES) {
+            jdbcTemplate.execute(statement);
+        }
+        log.info("Ensured {} schema index statements", INDEXES.size());
+    }
+}
@@ -0,0 +1,52 @@
+package com.pen_penned.blog.scheduler;
+
+import com.pen_penned.blog.repositories.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repairs drift between {@code posts.comment_count} and the actual number of comments.
+ * <p>
+ * Posts are processed in id ranges, each in its own short transaction, so the job never
+ * holds locks on the whole table. It also runs once after startup while any post still shows
+ * zero comments despite having some, which backfills posts written before the counter existed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciliationJob {
+
+    private final PostRepository postRepository;
+
+    @Value("${app.jobs.comment-count.chunk-size:1000}")
+    private int chunkSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (postRepository.existsUncountedComments()) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${app.jobs.comment-count.cron:0 30 3 * * *}")
+    public void reconcile() {
+        Long maxPostId = postRepository.findMaxPostId();
+        if (maxPostId == null) {
+            return;
+        }
+
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxPostId; fromId += chunkSize) {
+            repaired += postRepository.reconcileCommentCounts(fromId, fromId + chunkSize - 1);
+        }
+
+        log.info("Comment count reconciliation finished, {} posts repaired", repaired);
+    }
+}
@@ -0,0 +1,77 @@
+package com.pen_penned.blog.scheduler;
+
+import com.pen_penned.blog.cache.PostCardFragmentCache;
+import com.pen_penned.blog.repositories.PostRepository;
+import com.pen_penned.blog.util.ContentStats;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills in excerpt, word count and reading time for posts written before those columns existed.
+ * <p>
+ * Runs once after startup in the background. Posts are read in id order, one batch at a time,
+ * through the partial index on posts still missing their stats, and each batch is written back
+ * with a single JDBC batch. Once every post is filled in, a run costs one empty index lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContentStatsBackfillJob {
+
+    private static final String SELECT_BATCH = "SELECT post_id, content FROM posts " +
+            "WHERE word_count IS NULL AND post_id > ? ORDER BY post_id LIMIT ?";
+
+    // activity_at moves so cached details and ETags pick up the new fields; the version is left alone
+    // to avoid failing concurrent edits, so the cached cards of the batch are evicted instead
+    private static final String UPDATE_STATS = "UPDATE posts SET excerpt = ?, word_count = ?, " +
+            "reading_time_minutes = ?, " + PostRepository.TOUCH_ACTIVITY + " WHERE post_id = ? AND word_count IS NULL";
+
+    private record PostContent(long id, String content) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostCardFragmentCache postCardFragmentCache;
+
+    @Value("${app.jobs.content-stats.batch-size:500}")
+    private int batchSize;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int filled = 0;
+
+        while (true) {
+            List<PostContent> batch = jdbcTemplate.query(SELECT_BATCH,
+                    (rs, rowNum) -> new PostContent(rs.getLong("post_id"), rs.getString("content")),
+                    afterId, batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> updates = batch.stream()
+                    .map(post -> {
+                        ContentStats stats = ContentStats.of(post.content());
+                        return new Object[]{stats.excerpt(), stats.wordCount(), stats.readingTimeMinutes(), post.id()};
+                    })
+                    .toList();
+            jdbcTemplate.batchUpdate(UPDATE_STATS, updates);
+            postCardFragmentCache.evict(batch.stream().map(PostContent::id).toList());
+
+            filled += batch.size();
+            afterId = batch.get(batch.size() - 1).id();
+        }
+
+        if (filled > 0) {
+            log.info("Content stats backfill finished, {} posts filled in", filled);
+        }
+    }
+}
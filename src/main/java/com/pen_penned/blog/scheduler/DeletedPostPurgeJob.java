@@ -0,0 +1,195 @@
+package com.pen_penned.blog.scheduler;
+
+import com.pen_penned.blog.model.PostImage;
+import com.pen_penned.blog.repositories.PostImageRepository;
+import com.pen_penned.blog.service.S3Service;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hard-deletes soft-deleted posts together with everything that references them.
+ * <p>
+ * Dependents are removed in chunks of {@code chunk-size} rows, each chunk a statement of its own
+ * outside any surrounding transaction, so no run holds many row locks or a long transaction.
+ * Image files are removed from S3 with one batch request per chunk, before their rows; a post
+ * whose files could not all be deleted keeps its rows and is retried on the next run. The post
+ * row goes last, which also drops its revisions and rendered HTML through their cascading keys.
+ * <p>
+ * A run first claims its posts in one short transaction, locking them with
+ * {@code FOR UPDATE SKIP LOCKED} and stamping a lease on them, so jobs on several replicas split
+ * the backlog instead of purging the same posts. The lease outlives the run's own locks; a post
+ * whose run died becomes claimable again once it expires.
+ * <p>
+ * Progress is exported as {@code posts.purge.*} meters.
+ */
+@Slf4j
+@Component
+public class DeletedPostPurgeJob {
+
+    private static final String CLAIM_PENDING = "UPDATE posts SET purge_claimed_until = " +
+            "CAST(clock_timestamp() AT TIME ZONE 'UTC' AS timestamp) + make_interval(mins => ?) " +
+            "WHERE post_id IN (" +
+            "    SELECT post_id FROM posts " +
+            "    WHERE deleted_at IS NOT NULL AND (purge_claimed_until IS NULL " +
+            "    OR purge_claimed_until < CAST(clock_timestamp() AT TIME ZONE 'UTC' AS timestamp)) " +
+            "    ORDER BY deleted_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING post_id";
+
+    // A post kept for a retry waits for the next run instead of the end of its lease
+    private static final String RELEASE_CLAIM = "UPDATE posts SET purge_claimed_until = NULL WHERE post_id = ?";
+
+    private static final String COUNT_PENDING = "SELECT COUNT(*) FROM posts WHERE deleted_at IS NOT NULL";
+
+    // Dependents in the order their foreign keys require, each as a chunked delete
+    private static final List<ChunkedDelete> DEPENDENTS = List.of(
+            new ChunkedDelete("bookmark_folders", "DELETE FROM bookmark_folders WHERE bookmark_folder_id IN (" +
+                    "SELECT bf.bookmark_folder_id FROM bookmark_folders bf " +
+                    "JOIN bookmarks b ON b.bookmark_id = bf.bookmark_id WHERE b.post_id = ? LIMIT ?)"),
+            new ChunkedDelete("bookmarks", "DELETE FROM bookmarks WHERE bookmark_id IN (" +
+                    "SELECT bookmark_id FROM bookmarks WHERE post_id = ? LIMIT ?)"),
+            new ChunkedDelete("comments", "DELETE FROM comments WHERE comment_id IN (" +
+                    "SELECT comment_id FROM comments WHERE post_id = ? LIMIT ?)"),
+            new ChunkedDelete("post_revisions", "DELETE FROM post_revisions WHERE revision_id IN (" +
+                    "SELECT revision_id FROM post_revisions WHERE post_id = ? LIMIT ?)")
+    );
+
+    private static final String DELETE_TAGS = "DELETE FROM post_tags WHERE post_id = ?";
+
+    private static final String DELETE_POST = "DELETE FROM posts WHERE post_id = ? AND deleted_at IS NOT NULL";
+
+    private record ChunkedDelete(String table, String sql) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostImageRepository postImageRepository;
+    private final S3Service s3Service;
+    private final MeterRegistry meterRegistry;
+
+    private final Counter purgedPosts;
+    private final Counter deletedFiles;
+    private final AtomicLong backlog = new AtomicLong();
+
+    @Value("${app.jobs.post-purge.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.jobs.post-purge.posts-per-run:50}")
+    private int postsPerRun;
+
+    @Value("${app.jobs.post-purge.lease-minutes:15}")
+    private int leaseMinutes;
+
+    public DeletedPostPurgeJob(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               PostImageRepository postImageRepository,
+                               S3Service s3Service,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postImageRepository = postImageRepository;
+        this.s3Service = s3Service;
+        this.meterRegistry = meterRegistry;
+        this.purgedPosts = meterRegistry.counter("posts.purge.posts");
+        this.deletedFiles = meterRegistry.counter("posts.purge.files");
+        Gauge.builder("posts.purge.backlog", backlog, AtomicLong::get)
+                .description("Soft-deleted posts still waiting for the purge")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.post-purge.fixed-delay-ms:60000}")
+    public void purge() {
+        List<Long> postIds = transactionTemplate.execute(status ->
+                jdbcTemplate.queryForList(CLAIM_PENDING, Long.class, leaseMinutes, postsPerRun));
+
+        int purged = 0;
+        for (Long postId : postIds) {
+            try {
+                if (purgePost(postId)) {
+                    purged++;
+                } else {
+                    jdbcTemplate.update(RELEASE_CLAIM, postId);
+                }
+            } catch (RuntimeException e) {
+                // Left soft-deleted, so a later run picks it up again
+                log.error("Failed to purge post {}", postId, e);
+            }
+        }
+
+        backlog.set(postIds.isEmpty() ? 0 : jdbcTemplate.queryForObject(COUNT_PENDING, Long.class));
+        if (!postIds.isEmpty()) {
+            log.info("Purged {} of {} deleted posts, {} still pending", purged, postIds.size(), backlog.get());
+        }
+    }
+
+    private boolean purgePost(Long postId) {
+        if (!purgeImages(postId)) {
+            log.warn("Post {} keeps its image rows until all of its files are deleted from S3", postId);
+            return false;
+        }
+
+        for (ChunkedDelete dependent : DEPENDENTS) {
+            deleteInChunks(dependent, postId);
+        }
+        countRows("post_tags", jdbcTemplate.update(DELETE_TAGS, postId));
+
+        if (jdbcTemplate.update(DELETE_POST, postId) == 0) {
+            return false;
+        }
+        countRows("posts", 1);
+        purgedPosts.increment();
+        return true;
+    }
+
+    // Files first, rows second, so a failure never leaves files without a row pointing at them
+    private boolean purgeImages(Long postId) {
+        while (true) {
+            List<PostImage> images = postImageRepository.findPurgeChunk(postId, Limit.of(chunkSize));
+            if (images.isEmpty()) {
+                return true;
+            }
+
+            List<String> keys = new ArrayList<>();
+            for (PostImage image : images) {
+                keys.add(image.getS3Key());
+                if (image.getThumbnailS3Key() != null) {
+                    keys.add(image.getThumbnailS3Key());
+                }
+            }
+
+            int deleted = s3Service.deleteFiles(keys);
+            deletedFiles.increment(deleted);
+            if (deleted < keys.size()) {
+                return false;
+            }
+
+            countRows("post_images", postImageRepository.deleteByIdIn(
+                    images.stream().map(PostImage::getId).toList()));
+        }
+    }
+
+    private void deleteInChunks(ChunkedDelete dependent, Long postId) {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(dependent.sql(), postId, chunkSize);
+            countRows(dependent.table(), deleted);
+        } while (deleted == chunkSize);
+    }
+
+    private void countRows(String table, int rows) {
+        if (rows > 0) {
+            meterRegistry.counter("posts.purge.rows", "table", table).increment(rows);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.pen_penned.blog.scheduler;
+
+import com.pen_penned.blog.service.PostRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the archive and tag counts from the posts, repairing any drift from writes that
+ * bypassed {@link PostRollupService}. Only rows whose count differs are rewritten.
+ * <p>
+ * It also runs once after startup while both rollup tables are empty, which fills them for
+ * posts written before the rollups existed instead of serving an empty archive until the
+ * nightly run.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostRollupRebuildJob {
+
+    private final PostRollupService postRollupService;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (postRollupService.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(cron = "${app.jobs.post-rollups.cron:0 0 4 * * *}")
+    public void rebuild() {
+        postRollupService.rebuild();
+    }
+}
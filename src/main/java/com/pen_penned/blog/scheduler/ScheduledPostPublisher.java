@@ -0,0 +1,100 @@
+package com.pen_penned.blog.scheduler;
+
+import com.pen_penned.blog.event.PostChangedEvent;
+import com.pen_penned.blog.event.PostListingChangedEvent;
+import com.pen_penned.blog.service.PostRollupService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Publishes posts whose {@code publish_at} has passed.
+ * <p>
+ * Each batch is a single {@code UPDATE ... RETURNING} over rows claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, committed together with the rollup counts of the posts it
+ * published, so dispatchers on several replicas split the due posts between
+ * them instead of waiting on or publishing each other's rows. Rows another dispatcher already
+ * published no longer match once their lock is released, which rules out double publishes.
+ * Due posts are found through the partial index on scheduled drafts, so an idle poll is one
+ * empty index lookup.
+ */
+@Slf4j
+@Component
+public class ScheduledPostPublisher {
+
+    // created_at moves to the publish time, so the post enters the feeds and the archive on top
+    private static final String PUBLISH_DUE = "UPDATE posts SET is_published = true, publish_at = NULL, " +
+            "version = version + 1, updated_at = CAST(clock_timestamp() AT TIME ZONE 'UTC' AS timestamp), " +
+            "created_at = CAST(clock_timestamp() AT TIME ZONE 'UTC' AS timestamp) " +
+            "WHERE post_id IN (" +
+            "    SELECT post_id FROM posts " +
+            "    WHERE is_published = false AND publish_at IS NOT NULL AND deleted_at IS NULL " +
+            "    AND publish_at <= CAST(clock_timestamp() AT TIME ZONE 'UTC' AS timestamp) " +
+            "    ORDER BY publish_at LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING post_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostRollupService postRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter publishedPosts;
+
+    @Value("${app.jobs.scheduled-publish.batch-size:100}")
+    private int batchSize;
+
+    public ScheduledPostPublisher(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  PostRollupService postRollupService,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postRollupService = postRollupService;
+        this.eventPublisher = eventPublisher;
+        this.publishedPosts = meterRegistry.counter("posts.scheduled.published");
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.scheduled-publish.fixed-delay-ms:30000}",
+            initialDelayString = "${app.jobs.scheduled-publish.initial-delay-ms:30000}")
+    public void dispatch() {
+        int published = publishDue();
+        if (published > 0) {
+            log.info("Published {} scheduled posts", published);
+        }
+    }
+
+    /**
+     * Publishes due posts batch by batch until a batch comes back short.
+     *
+     * @return The number of posts this call published
+     */
+    public int publishDue() {
+        int published = 0;
+        List<Long> batch;
+        do {
+            batch = transactionTemplate.execute(status -> {
+                List<Long> postIds = jdbcTemplate.queryForList(PUBLISH_DUE, Long.class, batchSize);
+                // Drafts were never counted, so adding is the whole adjustment
+                postRollupService.addPosts(postIds);
+                return postIds;
+            });
+            published += batch.size();
+            publishedPosts.increment(batch.size());
+
+            // Committed by now, so cached details and feeds are evicted right away
+            batch.forEach(postId -> eventPublisher.publishEvent(new PostChangedEvent(postId)));
+            if (!batch.isEmpty()) {
+                eventPublisher.publishEvent(new PostListingChangedEvent(batch));
+            }
+        } while (batch.size() == batchSize);
+        return published;
+    }
+}
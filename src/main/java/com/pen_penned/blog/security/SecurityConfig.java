@@ -8,6 +8,7 @@ import com.pen_penned.blog.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.pen_penned.blog.security.services.UserDetailsServiceImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -89,8 +90,10 @@ public class SecurityConfig {
                                         "/h2-console/**",
                                         "/images/**"
                                 ).permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/v1/feeds/**", "/api/v1/sitemap/**").permitAll()
                                 .requestMatchers("/api/**").authenticated()
                                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                 .anyRequest().denyAll()
                 )
                 .oauth2Login(oauth2 -> oauth2
@@ -3,10 +3,12 @@ package com.pen_penned.blog.service;
 import com.pen_penned.blog.dto.request.BookmarkRequest;
 import com.pen_penned.blog.dto.response.BookmarkResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.util.PageTotals;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 
 import java.nio.file.AccessDeniedException;
+import java.util.Map;
 
 public interface BookmarkService {
 
@@ -20,7 +22,18 @@ public interface BookmarkService {
             Integer pageNumber,
             Integer pageSize,
             String sortBy,
-            String sortOrder
+            String sortOrder,
+            PageTotals totals
+    );
+
+    PageResponse<Map<String, Object>> getUserBookmarkFields(
+            Long userId,
+            Integer pageNumber,
+            Integer pageSize,
+            String sortBy,
+            String sortOrder,
+            String fields,
+            PageTotals totals
     );
 
     BookmarkResponse getBookmark(Long bookmarkId) throws AccessDeniedException;
@@ -4,37 +4,42 @@ import com.pen_penned.blog.dto.request.BookmarkRequest;
 import com.pen_penned.blog.dto.response.BookmarkResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.exception.ResourceNotFoundException;
+import com.pen_penned.blog.mapper.BookmarkMapper;
 import com.pen_penned.blog.model.Bookmark;
 import com.pen_penned.blog.model.BookmarkFolder;
 import com.pen_penned.blog.model.Post;
 import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.projection.FieldSet;
+import com.pen_penned.blog.projection.SparseFieldQuery;
+import com.pen_penned.blog.projection.SparseFieldRepository;
+import com.pen_penned.blog.projection.SparseFields;
 import com.pen_penned.blog.repositories.BookmarkFolderRepository;
 import com.pen_penned.blog.repositories.BookmarkRepository;
 import com.pen_penned.blog.repositories.PostRepository;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.PageTotals;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class BookmarkServiceImpl implements BookmarkService {
 
     private final AuthUtil authUtil;
-    private final ModelMapper modelMapper;
+    private final BookmarkMapper bookmarkMapper;
     private final BookmarkRepository bookmarkRepository;
     private final BookmarkFolderRepository bookmarkFolderRepository;
     private final PostRepository postRepository;
+    private final SparseFieldRepository sparseFieldRepository;
 
 
     @Override
@@ -52,7 +57,7 @@ public class BookmarkServiceImpl implements BookmarkService {
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
 
         // Convert to response
-        BookmarkResponse bookmarkResponse = modelMapper.map(savedBookmark, BookmarkResponse.class);
+        BookmarkResponse bookmarkResponse = bookmarkMapper.toResponse(savedBookmark);
 
         // If the post title is available, set it
         if (post.getTitle() != null) {
@@ -69,7 +74,8 @@ public class BookmarkServiceImpl implements BookmarkService {
             Integer pageNumber,
             Integer pageSize,
             String sortBy,
-            String sortOrder) {
+            String sortOrder,
+            PageTotals totals) {
 
         User user = authUtil.loggedInUser();
 
@@ -81,14 +87,14 @@ public class BookmarkServiceImpl implements BookmarkService {
         Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAndOrder);
 
         // Fetch Bookmarks
-        Page<Bookmark> bookmarkPage = bookmarkRepository.findBookmarksByUserId(user.getId(), pageDetails);
+        Slice<Bookmark> bookmarkPage = bookmarkRepository.findBookmarksByUserId(user.getId(), pageDetails);
 
         // Convert bookmarks to DTOs
         List<BookmarkResponse> bookmarkResponses = bookmarkPage
                 .getContent()
                 .stream()
                 .map(bookmark -> {
-                    BookmarkResponse bookmarkResponse = modelMapper.map(bookmark, BookmarkResponse.class);
+                    BookmarkResponse bookmarkResponse = bookmarkMapper.toResponse(bookmark);
 
                     // Add post title if available
                     if (bookmark.getPost().getTitle() != null) {
@@ -97,27 +103,47 @@ public class BookmarkServiceImpl implements BookmarkService {
 
                     // Add folder information
                     List<BookmarkFolder> bookmarkFolders = bookmarkFolderRepository.findByBookmarkId(bookmark.getId());
-                    Set<BookmarkResponse.FolderMinimalResponse> folders = bookmarkFolders.stream()
-                            .map(bf -> BookmarkResponse.FolderMinimalResponse.builder()
-                                    .id(bf.getFolder().getId())
-                                    .name(bf.getFolder().getName())
-                                    .build())
-                            .collect(Collectors.toSet());
-                    bookmarkResponse.setFolders(folders);
+                    bookmarkResponse.setFolders(bookmarkMapper.toFolderResponses(bookmarkFolders));
 
                     return bookmarkResponse;
 
                 })
                 .toList();
 
-        return new PageResponse<>(
-                bookmarkResponses,
-                bookmarkPage.getNumber(),
-                bookmarkPage.getSize(),
-                bookmarkPage.getTotalElements(),
-                bookmarkPage.getTotalPages(),
-                bookmarkPage.isLast()
-        );
+        // Owner-filtered, so there are no statistics to estimate from; the count is by user_id
+        return PageResponse.of(bookmarkResponses, bookmarkPage, totals,
+                () -> bookmarkRepository.countByUserId(user.getId()));
+    }
+
+
+    @Override
+    public PageResponse<Map<String, Object>> getUserBookmarkFields(
+            Long userId,
+            Integer pageNumber,
+            Integer pageSize,
+            String sortBy,
+            String sortOrder,
+            String fields,
+            PageTotals totals) {
+
+        User user = authUtil.loggedInUser();
+        FieldSet fieldSet = FieldSet.parse(fields, SparseFields.BOOKMARK_COLUMNS.keySet());
+
+        // Sort configuration
+        Sort sortByAndOrder = sortOrder.equalsIgnoreCase("asc")
+                ? Sort.by(sortBy).ascending()
+                : Sort.by(sortBy).descending();
+
+        Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAndOrder);
+
+        // Read only the selected columns; bookmarks of deleted posts stay hidden until the purge
+        Slice<Map<String, Object>> fieldPage = sparseFieldRepository.findSlice(
+                new SparseFieldQuery(Bookmark.class, "b", fieldSet.columns(SparseFields.BOOKMARK_COLUMNS),
+                        "b.user.id = :userId AND b.post.deletedAt IS NULL", Map.of("userId", user.getId())),
+                pageDetails);
+
+        return PageResponse.of(fieldPage.getContent(), fieldPage, totals,
+                () -> bookmarkRepository.countByUserId(user.getId()));
     }
 
 
@@ -133,7 +159,7 @@ public class BookmarkServiceImpl implements BookmarkService {
             throw new AccessDeniedException("You do not have permission to view this bookmark.");
         }
 
-        return modelMapper.map(bookmark, BookmarkResponse.class);
+        return bookmarkMapper.toResponse(bookmark);
     }
 
 
@@ -1,23 +1,33 @@
 package com.pen_penned.blog.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.pen_penned.blog.dto.request.CommentRequest;
 import com.pen_penned.blog.dto.response.CommentResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.util.PageTotals;
 import jakarta.validation.Valid;
 
 import java.nio.file.AccessDeniedException;
+import java.util.Map;
 
 public interface CommentService {
 
     CommentResponse createComment(@Valid CommentRequest commentRequest, User user);
 
-    CommentResponse updateComment(Long commentId, CommentRequest commentRequest) throws AccessDeniedException;
+    CommentResponse updateComment(Long commentId, CommentRequest commentRequest, Long expectedVersion)
+            throws AccessDeniedException;
 
-    void deleteComment(Long commentId) throws AccessDeniedException;
+    CommentResponse patchComment(Long commentId, JsonNode patch, Long expectedVersion) throws AccessDeniedException;
+
+    void deleteComment(Long commentId, Long expectedVersion) throws AccessDeniedException;
 
     PageResponse<CommentResponse> getCommentsByPost(Long postId, Integer pageNumber, Integer pageSize,
-                                                    String sortBy, String sortOrder);
+                                                    String sortBy, String sortOrder, PageTotals totals);
+
+    PageResponse<Map<String, Object>> getCommentFieldsByPost(Long postId, Integer pageNumber, Integer pageSize,
+                                                             String sortBy, String sortOrder, String fields,
+                                                             PageTotals totals);
 
     CommentResponse getCommentById(Long commentId);
 }
@@ -1,61 +1,75 @@
 package com.pen_penned.blog.service;
 
+import com.pen_penned.blog.cache.PostCacheStamp;
 import com.pen_penned.blog.dto.request.CommentRequest;
 import com.pen_penned.blog.dto.response.CommentResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.event.PostChangedEvent;
 import com.pen_penned.blog.exception.ResourceNotFoundException;
+import com.pen_penned.blog.mapper.CommentMapper;
 import com.pen_penned.blog.model.Comment;
 import com.pen_penned.blog.model.Post;
 import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.projection.FieldSet;
+import com.pen_penned.blog.projection.SparseFieldQuery;
+import com.pen_penned.blog.projection.SparseFieldRepository;
+import com.pen_penned.blog.projection.SparseFields;
+import com.pen_penned.blog.exception.APIException;
+import com.pen_penned.blog.exception.PreconditionFailedException;
 import com.pen_penned.blog.repositories.CommentRepository;
+import com.pen_penned.blog.repositories.PatchUpdateRepository;
 import com.pen_penned.blog.repositories.PostRepository;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.MergePatch;
+import com.pen_penned.blog.util.PageTotals;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.nio.file.AccessDeniedException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
     private final AuthUtil authUtil;
-    private final ModelMapper modelMapper;
+    private final CommentMapper commentMapper;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final PatchUpdateRepository patchUpdateRepository;
 
     @Override
+    @Transactional
     public CommentResponse createComment(CommentRequest commentRequest, User user) {
+        Post post = postRepository.findById(commentRequest.getPostId())
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", commentRequest.getPostId()));
+
+        // Only set the owning side; the collection helpers would load every existing comment
         Comment comment = Comment.builder()
                 .content(commentRequest.getContent())
                 .author(user)
+                .post(post)
                 .build();
 
-        Post post = postRepository.findById(commentRequest.getPostId())
-                .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", commentRequest.getPostId()));
-        comment.setPost(post);
-
-        post.addComment(comment);
-        user.addComment(comment);
-
         // save the comment in the database
         Comment savedComment = commentRepository.save(comment);
+        postRepository.incrementCommentCount(post.getId());
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
 
-        CommentResponse commentResponse = modelMapper.map(savedComment, CommentResponse.class);
-
-        // Set author details
-        commentResponse.setAuthorFirstName(user.getFirstName());
-        commentResponse.setAuthorLastName(user.getLastName());
-        commentResponse.setPostId(commentRequest.getPostId());
-
-        return commentResponse;
+        return commentMapper.toResponse(savedComment);
     }
 
 
@@ -64,7 +78,7 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment", "commentId", commentId));
 
-        return modelMapper.map(comment, CommentResponse.class);
+        return commentMapper.toResponse(comment);
     }
 
 
@@ -74,7 +88,10 @@ public class CommentServiceImpl implements CommentService {
             Integer pageNumber,
             Integer pageSize,
             String sortBy,
-            String sortOrder) {
+            String sortOrder,
+            PageTotals totals) {
+
+        PostCacheStamp stamp = findVisiblePost(postId);
 
         //  Sort configuration
         Sort sortByAndOrder = sortOrder.equalsIgnoreCase("asc")
@@ -84,53 +101,125 @@ public class CommentServiceImpl implements CommentService {
         Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAndOrder);
 
         // Fetch comments
-        Page<Comment> commentPage = commentRepository.findCommentsByPostId(postId, pageDetails);
+        Slice<Comment> commentPage = commentRepository.findCommentsByPostId(postId, pageDetails);
 
         // Convert comments to DTOs
         List<CommentResponse> commentResponse = commentPage.getContent().stream()
-                .map(comment -> modelMapper.map(comment, CommentResponse.class))
+                .map(commentMapper::toResponse)
                 .toList();
 
         // Return paginated response
-        return new PageResponse<>(
-                commentResponse,
-                commentPage.getNumber(),
-                commentPage.getSize(),
-                commentPage.getTotalElements(),
-                commentPage.getTotalPages(),
-                commentPage.isLast()
-        );
+        return PageResponse.of(commentResponse, commentPage, totals,
+                () -> commentRepository.getCommentCountByPostId(postId), () -> stamp.commentCount());
+    }
+
+    @Override
+    public PageResponse<Map<String, Object>> getCommentFieldsByPost(
+            Long postId,
+            Integer pageNumber,
+            Integer pageSize,
+            String sortBy,
+            String sortOrder,
+            String fields,
+            PageTotals totals) {
+
+        FieldSet fieldSet = FieldSet.parse(fields, SparseFields.COMMENT_COLUMNS.keySet());
+        PostCacheStamp stamp = findVisiblePost(postId);
+
+        //  Sort configuration
+        Sort sortByAndOrder = sortOrder.equalsIgnoreCase("asc")
+                ? Sort.by(sortBy).ascending()
+                : Sort.by(sortBy).descending();
+
+        Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAndOrder);
+
+        // Read only the selected columns; the author is joined only for author names
+        Slice<Map<String, Object>> fieldPage = sparseFieldRepository.findSlice(
+                new SparseFieldQuery(Comment.class, "c", fieldSet.columns(SparseFields.COMMENT_COLUMNS),
+                        "c.post.id = :postId", Map.of("postId", postId)),
+                pageDetails);
+
+        return PageResponse.of(fieldPage.getContent(), fieldPage, totals,
+                () -> commentRepository.getCommentCountByPostId(postId), () -> stamp.commentCount());
+    }
+
+    /**
+     * Comments of a soft-deleted post stay in place until the purge job reaches them, so listings
+     * check the post first. The stamp's denormalized counter then doubles as the estimated total.
+     */
+    private PostCacheStamp findVisiblePost(Long postId) {
+        return postRepository.findCacheStampById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", postId));
     }
 
     @Transactional
     @Override
     public CommentResponse updateComment(
             Long commentId,
-            CommentRequest commentRequest) throws AccessDeniedException {
-        // Fetch the existing comment
-        Comment existingComment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Comment", "commentId", commentId));
+            CommentRequest commentRequest,
+            Long expectedVersion) throws AccessDeniedException {
+        // Content is the only editable field, so a full update is the same targeted UPDATE as a patch
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        if (commentRequest.getContent() != null) {
+            assignments.put("content", commentRequest.getContent());
+        }
 
-        // Check if the logged-in user is the owner of the comment
-        User loggedInUser = authUtil.loggedInUser();
-        if (!existingComment.getAuthor().getId().equals(loggedInUser.getId())) {
-            throw new AccessDeniedException("You do not have permission to update this comment.");
+        return updateOwnedComment(commentId, assignments, expectedVersion);
+    }
+
+    @Override
+    @Transactional
+    public CommentResponse patchComment(Long commentId, JsonNode patchDocument, Long expectedVersion)
+            throws AccessDeniedException {
+        MergePatch patch = MergePatch.of(patchDocument, Set.of("content"));
+
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        if (patch.has("content")) {
+            String content = patch.requiredText("content");
+            if (content.length() > 2000) {
+                throw new APIException("Comment must be less than 2000 characters");
+            }
+            assignments.put("content", content);
         }
 
-        // Update only non-null fields
-        if (commentRequest.getContent() != null)
-            existingComment.setContent(commentRequest.getContent());
+        return updateOwnedComment(commentId, assignments, expectedVersion);
+    }
 
-        // Save the updated comment
-        Comment updatedComment = commentRepository.save(existingComment);
+    private CommentResponse updateOwnedComment(Long commentId, Map<String, Object> assignments,
+                                               Long expectedVersion) throws AccessDeniedException {
+        User loggedInUser = authUtil.loggedInUser();
 
-        // Map to response
-        return modelMapper.map(updatedComment, CommentResponse.class);
+        // Without If-Match the version just read guards the write, as in patchPost
+        long version = expectedVersion != null ? expectedVersion
+                : commentRepository.findVersionById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment", "commentId", commentId));
+
+        // Ownership and the version are checked by the UPDATE itself
+        int updated = patchUpdateRepository.update(Comment.class, commentId, "author.id", loggedInUser.getId(),
+                version, assignments);
+        if (updated == 0) {
+            // Missing and foreign comments are thrown here; what is left is a version conflict
+            RuntimeException rejected = writeRejected(commentId, loggedInUser, "update");
+            throw expectedVersion != null ? rejected
+                    : new ObjectOptimisticLockingFailureException(Comment.class, commentId);
+        }
+
+        Long postId = commentRepository.findPostIdById(commentId).orElseThrow();
+        postRepository.touchActivity(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+
+        // Read back after the bulk update so the response shows the new version
+        return commentMapper.toResponse(commentRepository.findById(commentId).orElseThrow());
     }
 
     @Override
     @Transactional
-    public void deleteComment(Long commentId) throws AccessDeniedException {
+    public void deleteComment(Long commentId, Long expectedVersion) throws AccessDeniedException {
+        if (expectedVersion != null) {
+            deleteCommentIfUnchanged(commentId, expectedVersion);
+            return;
+        }
+
         // Fetch the comment from the database
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comment", "commentId", commentId));
@@ -143,11 +232,36 @@ public class CommentServiceImpl implements CommentService {
             throw new AccessDeniedException("You do not have permission to delete this comment.");
         }
 
-        comment.getPost().removeComment(comment);
-        comment.getAuthor().removeComment(comment);
-
         // Delete the comment from the repository
         commentRepository.delete(comment);
+        postRepository.decrementCommentCount(comment.getPost().getId());
+        eventPublisher.publishEvent(new PostChangedEvent(comment.getPost().getId()));
+    }
+
+    // Conditional delete as a single statement; the comment itself is only loaded when it fails
+    private void deleteCommentIfUnchanged(Long commentId, Long expectedVersion) throws AccessDeniedException {
+        User loggedInUser = authUtil.loggedInUser();
+
+        Long postId = commentRepository.findPostIdById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment", "commentId", commentId));
+
+        if (commentRepository.deleteOwnedVersion(commentId, loggedInUser.getId(), expectedVersion) == 0) {
+            throw writeRejected(commentId, loggedInUser, "delete");
+        }
+
+        postRepository.decrementCommentCount(postId);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+    }
+
+    // Works out why a conditional write matched no row: missing, someone else's, or changed since read
+    private RuntimeException writeRejected(Long commentId, User loggedInUser, String action)
+            throws AccessDeniedException {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Comment", "commentId", commentId));
+        if (!comment.getAuthor().getId().equals(loggedInUser.getId())) {
+            throw new AccessDeniedException("You do not have permission to " + action + " this comment.");
+        }
+        return new PreconditionFailedException("Comment", commentId);
     }
 
 }
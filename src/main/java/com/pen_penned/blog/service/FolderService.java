@@ -1,10 +1,12 @@
 package com.pen_penned.blog.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.pen_penned.blog.dto.request.BookmarkFolderRequest;
 import com.pen_penned.blog.dto.request.FolderRequest;
 import com.pen_penned.blog.dto.response.BookmarkResponse;
 import com.pen_penned.blog.dto.response.FolderResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.util.PageTotals;
 
 import java.nio.file.AccessDeniedException;
 import java.util.List;
@@ -18,13 +20,16 @@ public interface FolderService {
 
     FolderResponse updateFolder(Long folderId, FolderRequest folderRequest) throws AccessDeniedException;
 
+    FolderResponse patchFolder(Long folderId, JsonNode patch) throws AccessDeniedException;
+
     void deleteFolder(Long folderId) throws AccessDeniedException;
 
     PageResponse<FolderResponse> getUserFolders(
             Integer pageNumber,
             Integer pageSize,
             String sortBy,
-            String sortOrder);
+            String sortOrder,
+            PageTotals totals);
 
     void addBookmarkToFolders(BookmarkFolderRequest bookmarkFolderRequest) throws AccessDeniedException;
 
@@ -37,5 +42,6 @@ public interface FolderService {
             Integer pageNumber,
             Integer pageSize,
             String sortBy,
-            String sortOrder) throws AccessDeniedException;
+            String sortOrder,
+            PageTotals totals) throws AccessDeniedException;
 }
@@ -5,8 +5,12 @@ import com.pen_penned.blog.dto.request.FolderRequest;
 import com.pen_penned.blog.dto.response.BookmarkResponse;
 import com.pen_penned.blog.dto.response.FolderResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pen_penned.blog.exception.APIException;
 import com.pen_penned.blog.exception.ResourceAlreadyExistsException;
 import com.pen_penned.blog.exception.ResourceNotFoundException;
+import com.pen_penned.blog.mapper.BookmarkMapper;
+import com.pen_penned.blog.mapper.FolderMapper;
 import com.pen_penned.blog.model.Bookmark;
 import com.pen_penned.blog.model.BookmarkFolder;
 import com.pen_penned.blog.model.Folder;
@@ -14,30 +18,36 @@ import com.pen_penned.blog.model.User;
 import com.pen_penned.blog.repositories.BookmarkFolderRepository;
 import com.pen_penned.blog.repositories.BookmarkRepository;
 import com.pen_penned.blog.repositories.FolderRepository;
+import com.pen_penned.blog.repositories.PatchUpdateRepository;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.MergePatch;
+import com.pen_penned.blog.util.PageTotals;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.nio.file.AccessDeniedException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FolderServiceImpl implements FolderService {
 
-    private final ModelMapper modelMapper;
+    private final FolderMapper folderMapper;
+    private final BookmarkMapper bookmarkMapper;
     private final FolderRepository folderRepository;
     private final BookmarkRepository bookmarkRepository;
     private final BookmarkFolderRepository bookmarkFolderRepository;
     private final AuthUtil authUtil;
+    private final PatchUpdateRepository patchUpdateRepository;
 
 
     @Override
@@ -58,7 +68,7 @@ public class FolderServiceImpl implements FolderService {
 
         Folder savedFolder = folderRepository.save(folder);
 
-        FolderResponse folderResponse = modelMapper.map(savedFolder, FolderResponse.class);
+        FolderResponse folderResponse = folderMapper.toResponse(savedFolder);
         folderResponse.setUserId(user.getId());
         folderResponse.setBookmarkCount(0);
 
@@ -77,7 +87,7 @@ public class FolderServiceImpl implements FolderService {
             throw new AccessDeniedException("You do not have permission to view this folder");
         }
 
-        FolderResponse folderResponse = modelMapper.map(folder, FolderResponse.class);
+        FolderResponse folderResponse = folderMapper.toResponse(folder);
         folderResponse.setUserId(user.getId());
         folderResponse.setBookmarkCount(folderRepository.countBookmarksInFolder(folderId));
 
@@ -109,7 +119,61 @@ public class FolderServiceImpl implements FolderService {
 
         Folder updatedFolder = folderRepository.save(folder);
 
-        FolderResponse folderResponse = modelMapper.map(updatedFolder, FolderResponse.class);
+        FolderResponse folderResponse = folderMapper.toResponse(updatedFolder);
+        folderResponse.setUserId(user.getId());
+        folderResponse.setBookmarkCount(folderRepository.countBookmarksInFolder(folderId));
+
+        return folderResponse;
+    }
+
+    @Override
+    @Transactional
+    public FolderResponse patchFolder(Long folderId, JsonNode patchDocument) throws AccessDeniedException {
+        MergePatch patch = MergePatch.of(patchDocument, Set.of("name", "description"));
+        User user = authUtil.loggedInUser();
+
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        if (patch.has("name")) {
+            String name = patch.requiredText("name");
+            if (name.length() < 3 || name.length() > 50) {
+                throw new APIException("Folder name must be between 3 and 50 characters");
+            }
+            assignments.put("name", name);
+        }
+        if (patch.has("description")) {
+            String description = patch.text("description");
+            if (description != null && description.length() > 255) {
+                throw new APIException("Folder description must be less than 255 characters");
+            }
+            assignments.put("description", description);
+        }
+
+        // Check if new name already exists for this user
+        if (assignments.containsKey("name")
+                && folderRepository.existsByNameAndUserIdAndIdNot((String) assignments.get("name"), user.getId(), folderId)) {
+            throw new ResourceAlreadyExistsException("Folder", "name", (String) assignments.get("name"));
+        }
+
+        // Guarded by the version read here, as in patchPost, so a concurrent change is not overwritten
+        long version = folderRepository.findVersionById(folderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Folder", "id", folderId));
+
+        // Ownership and version are checked by the UPDATE itself
+        int updated = patchUpdateRepository.update(Folder.class, folderId, "user.id", user.getId(), version,
+                assignments);
+        if (updated == 0) {
+            // Nothing matched, so tell someone else's folder apart from a concurrent change
+            Folder folder = folderRepository.findById(folderId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Folder", "id", folderId));
+            if (!folder.getUser().getId().equals(user.getId())) {
+                throw new AccessDeniedException("You do not have permission to update this folder");
+            }
+            throw new ObjectOptimisticLockingFailureException(Folder.class, folderId);
+        }
+
+        Folder folder = folderRepository.findById(folderId).orElseThrow();
+
+        FolderResponse folderResponse = folderMapper.toResponse(folder);
         folderResponse.setUserId(user.getId());
         folderResponse.setBookmarkCount(folderRepository.countBookmarksInFolder(folderId));
 
@@ -137,7 +201,8 @@ public class FolderServiceImpl implements FolderService {
             Integer pageNumber,
             Integer pageSize,
             String sortBy,
-            String sortOrder) {
+            String sortOrder,
+            PageTotals totals) {
 
         User user = authUtil.loggedInUser();
 
@@ -149,28 +214,23 @@ public class FolderServiceImpl implements FolderService {
         Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAndOrder);
 
         // Fetch folders
-        Page<Folder> folderPage = folderRepository.findByUserId(user.getId(), pageDetails);
+        Slice<Folder> folderPage = folderRepository.findByUserId(user.getId(), pageDetails);
 
         // Convert to DTOs
         List<FolderResponse> folderResponses = folderPage
                 .getContent()
                 .stream()
                 .map(folder -> {
-                    FolderResponse folderResponse = modelMapper.map(folder, FolderResponse.class);
+                    FolderResponse folderResponse = folderMapper.toResponse(folder);
                     folderResponse.setUserId(user.getId());
                     folderResponse.setBookmarkCount(folderRepository.countBookmarksInFolder(folder.getId()));
                     return folderResponse;
                 })
                 .toList();
 
-        return new PageResponse<>(
-                folderResponses,
-                folderPage.getNumber(),
-                folderPage.getSize(),
-                folderPage.getTotalElements(),
-                folderPage.getTotalPages(),
-                folderPage.isLast()
-        );
+        // Owner-filtered, so there are no statistics to estimate from
+        return PageResponse.of(folderResponses, folderPage, totals,
+                () -> folderRepository.countByUserId(user.getId()));
     }
 
     @Override
@@ -255,7 +315,7 @@ public class FolderServiceImpl implements FolderService {
 
         return folders.stream()
                 .map(folder -> {
-                    FolderResponse folderResponse = modelMapper.map(folder, FolderResponse.class);
+                    FolderResponse folderResponse = folderMapper.toResponse(folder);
                     folderResponse.setUserId(user.getId());
                     folderResponse.setBookmarkCount(folderRepository.countBookmarksInFolder(folder.getId()));
                     return folderResponse;
@@ -270,7 +330,8 @@ public class FolderServiceImpl implements FolderService {
             Integer pageNumber,
             Integer pageSize,
             String sortBy,
-            String sortOrder) throws AccessDeniedException {
+            String sortOrder,
+            PageTotals totals) throws AccessDeniedException {
 
         User user = authUtil.loggedInUser();
 
@@ -290,7 +351,7 @@ public class FolderServiceImpl implements FolderService {
         Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAndOrder);
 
         // Fetch bookmarks in this folder
-        Page<BookmarkFolder> bookmarkFolderPage = bookmarkFolderRepository.findByFolderId(folderId, pageDetails);
+        Slice<BookmarkFolder> bookmarkFolderPage = bookmarkFolderRepository.findByFolderId(folderId, pageDetails);
 
         // Convert to DTO
         List<BookmarkResponse> bookmarkResponses = bookmarkFolderPage
@@ -298,37 +359,20 @@ public class FolderServiceImpl implements FolderService {
                 .stream()
                 .map(bookmarkFolder -> {
                     Bookmark bookmark = bookmarkFolder.getBookmark();
-                    BookmarkResponse response = modelMapper.map(bookmark, BookmarkResponse.class);
-
-                    // Clear any existing folders that might have been incorrectly mapped
-                    response.getFolders().clear();
+                    BookmarkResponse response = bookmarkMapper.toResponse(bookmark);
 
                     // Fetch all folders for this bookmark from your repository
                     List<BookmarkFolder> allFoldersForBookmark = bookmarkFolderRepository
                             .findByBookmarkId(bookmark.getId());
 
                     // Map them to FolderMinimalResponse and add to the response
-                    Set<BookmarkResponse.FolderMinimalResponse> folderSet = allFoldersForBookmark
-                            .stream()
-                            .map(bf -> new BookmarkResponse
-                                    .FolderMinimalResponse(
-                                    bf.getFolder().getId(),
-                                    bf.getFolder().getName()))
-                            .collect(Collectors.toSet());
-
-                    response.setFolders(folderSet);
+                    response.setFolders(bookmarkMapper.toFolderResponses(allFoldersForBookmark));
 
                     return response;
                 })
                 .toList();
 
-        return new PageResponse<>(
-                bookmarkResponses,
-                bookmarkFolderPage.getNumber(),
-                bookmarkFolderPage.getSize(),
-                bookmarkFolderPage.getTotalElements(),
-                bookmarkFolderPage.getTotalPages(),
-                bookmarkFolderPage.isLast()
-        );
+        return PageResponse.of(bookmarkResponses, bookmarkFolderPage, totals,
+                () -> folderRepository.countBookmarksInFolder(folderId));
     }
 }
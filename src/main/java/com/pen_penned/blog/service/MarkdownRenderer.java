@@ -0,0 +1,25 @@
+package com.pen_penned.blog.service;
+
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Renders post Markdown to HTML that is safe to embed: raw HTML in the source is escaped
+ * rather than passed through, and link and image URLs with unsafe schemes such as
+ * {@code javascript:} are dropped.
+ */
+@Component
+public class MarkdownRenderer {
+
+    // Both are immutable and thread-safe
+    private final Parser parser = Parser.builder().build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder()
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+
+    public String render(String markdown) {
+        return renderer.render(parser.parse(markdown));
+    }
+}
@@ -0,0 +1,13 @@
+package com.pen_penned.blog.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface PostExportService {
+
+    /**
+     * Writes every post of the author to the stream as a ZIP archive: one Markdown file per post
+     * and a {@code manifest.json}. The stream is finished but not closed.
+     */
+    void exportPosts(Long authorId, OutputStream out) throws IOException;
+}
@@ -0,0 +1,192 @@
+package com.pen_penned.blog.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pen_penned.blog.dto.response.PostImageResponseDTO;
+import com.pen_penned.blog.projection.PostExportRow;
+import com.pen_penned.blog.repositories.PostRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams an author's posts into a ZIP archive without holding more than one chunk of posts.
+ * <p>
+ * Posts come off a forward-only cursor as projections. Every {@code chunk-size} posts, their
+ * tags and images are loaded in one query each, the chunk is written out and the persistence
+ * context is cleared. The manifest is written last from a second, light cursor. Both cursors run
+ * in one read-only repeatable-read transaction, so the manifest lists exactly the exported files.
+ */
+@Slf4j
+@Service
+public class PostExportServiceImpl implements PostExportService {
+
+    private static final String MANIFEST = "manifest.json";
+
+    private final PostRepository postRepository;
+    private final PostPageAssembler postPageAssembler;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate snapshotTransaction;
+
+    @Value("${app.posts.export.chunk-size:100}")
+    private int chunkSize;
+
+    public PostExportServiceImpl(PostRepository postRepository,
+                                 PostPageAssembler postPageAssembler,
+                                 EntityManager entityManager,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.postPageAssembler = postPageAssembler;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @Override
+    public void exportPosts(Long authorId, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        try {
+            snapshotTransaction.executeWithoutResult(status -> {
+                try {
+                    int exported = writePosts(authorId, zip);
+                    writeManifest(authorId, zip);
+                    log.info("Exported {} posts of user {}", exported, authorId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        zip.finish();
+    }
+
+    private int writePosts(Long authorId, ZipOutputStream zip) throws IOException {
+        int exported = 0;
+        List<PostExportRow> chunk = new ArrayList<>(chunkSize);
+        try (Stream<PostExportRow> rows = postRepository.streamExportRows(authorId)) {
+            Iterator<PostExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    writeChunk(chunk, zip);
+                    exported += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        return exported;
+    }
+
+    private void writeChunk(List<PostExportRow> chunk, ZipOutputStream zip) throws IOException {
+        List<Long> postIds = chunk.stream().map(PostExportRow::id).toList();
+        Map<Long, List<String>> tagsByPost = postPageAssembler.loadTags(postIds);
+        Map<Long, List<PostImageResponseDTO>> imagesByPost = postPageAssembler.loadImages(postIds);
+
+        for (PostExportRow post : chunk) {
+            zip.putNextEntry(new ZipEntry(post.fileName()));
+            Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+            writeMarkdown(post, tagsByPost.getOrDefault(post.id(), List.of()),
+                    imagesByPost.getOrDefault(post.id(), List.of()), writer);
+            writer.flush();
+            zip.closeEntry();
+        }
+
+        // Images are loaded as entities; drop them before the next chunk
+        entityManager.clear();
+    }
+
+    // YAML front matter, then the post's Markdown as written. Strings are JSON-quoted, which YAML reads as is.
+    private void writeMarkdown(PostExportRow post, List<String> tags, List<PostImageResponseDTO> images,
+                               Writer writer) throws IOException {
+        writer.write("---\n");
+        writer.write("title: " + quote(post.title()) + "\n");
+        writer.write("slug: " + quote(post.slug()) + "\n");
+        writer.write("published: " + post.published() + "\n");
+        if (post.publishAt() != null) {
+            writer.write("publishAt: " + quote(post.publishAt().toString()) + "\n");
+        }
+        writer.write("createdAt: " + quote(post.createdAt().toString()) + "\n");
+        writer.write("updatedAt: " + quote(post.updatedAt().toString()) + "\n");
+        if (post.coverImageUrl() != null) {
+            writer.write("coverImageUrl: " + quote(post.coverImageUrl()) + "\n");
+        }
+        writer.write("tags: " + objectMapper.writeValueAsString(tags) + "\n");
+        if (!images.isEmpty()) {
+            writer.write("images:\n");
+            for (PostImageResponseDTO image : images) {
+                writer.write("  - url: " + quote(image.getImageUrl()) + "\n");
+                if (image.getAltText() != null) {
+                    writer.write("    alt: " + quote(image.getAltText()) + "\n");
+                }
+                if (image.getCaption() != null) {
+                    writer.write("    caption: " + quote(image.getCaption()) + "\n");
+                }
+            }
+        }
+        writer.write("---\n\n");
+        writer.write(post.content());
+        writer.write("\n");
+    }
+
+    private String quote(String value) throws IOException {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    // Written straight into the entry, one post at a time
+    private void writeManifest(Long authorId, ZipOutputStream zip) throws IOException {
+        zip.putNextEntry(new ZipEntry(MANIFEST));
+        JsonGenerator json = objectMapper.getFactory().createGenerator(zip)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter();
+
+        json.writeStartObject();
+        json.writeStringField("exportedAt", LocalDateTime.now(ZoneOffset.UTC).toString());
+        json.writeNumberField("authorId", authorId);
+        json.writeArrayFieldStart("posts");
+        try (Stream<Object[]> rows = postRepository.streamManifestRows(authorId)) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                PostExportRow post = new PostExportRow((Long) row[0], (String) row[1], (String) row[2], null,
+                        (Boolean) row[3], null, null, (LocalDateTime) row[4], null);
+                json.writeStartObject();
+                json.writeNumberField("id", post.id());
+                json.writeStringField("title", post.title());
+                json.writeStringField("slug", post.slug());
+                json.writeBooleanField("published", post.published());
+                json.writeStringField("createdAt", post.createdAt().toString());
+                json.writeStringField("file", post.fileName());
+                json.writeEndObject();
+            }
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.flush();
+        zip.closeEntry();
+    }
+}
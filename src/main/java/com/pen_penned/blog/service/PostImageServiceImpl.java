@@ -3,6 +3,7 @@ package com.pen_penned.blog.service;
 import com.pen_penned.blog.dto.request.PostImageUpdateRequestDTO;
 import com.pen_penned.blog.dto.request.PostImageUploadRequestDTO;
 import com.pen_penned.blog.dto.response.PostImageResponseDTO;
+import com.pen_penned.blog.event.PostChangedEvent;
 import com.pen_penned.blog.exception.ImageProcessingException;
 import com.pen_penned.blog.exception.ResourceNotFoundException;
 import com.pen_penned.blog.model.Post;
@@ -11,6 +12,7 @@ import com.pen_penned.blog.repositories.PostImageRepository;
 import com.pen_penned.blog.repositories.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -35,6 +37,7 @@ public class PostImageServiceImpl implements PostImageService {
     private final PostImageRepository postImageRepository;
     private final S3Service s3Service;
     private final ImageProcessingService imageProcessingService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     public CompletableFuture<PostImage> uploadPostImage(Long postId, MultipartFile file,
@@ -82,7 +85,10 @@ public class PostImageServiceImpl implements PostImageService {
 
                             PostImage postImage = builder.build();
                             post.addImage(postImage);
-                            return CompletableFuture.completedFuture(postImageRepository.save(postImage));
+                            PostImage savedImage = postImageRepository.save(postImage);
+                            postRepository.touchActivity(postId);
+                            eventPublisher.publishEvent(new PostChangedEvent(postId));
+                            return CompletableFuture.completedFuture(savedImage);
 
                         } catch (Exception e) {
                             log.error("Failed to process thumbnail", e);
@@ -107,7 +113,12 @@ public class PostImageServiceImpl implements PostImageService {
         Optional.ofNullable(updateRequest.getDisplayOrder()).ifPresent(image::setDisplayOrder);
         Optional.ofNullable(updateRequest.getFeatured()).ifPresent(image::setFeatured);
 
-        return postImageRepository.save(image);
+        PostImage savedImage = postImageRepository.save(image);
+        if (savedImage.getPost() != null) {
+            postRepository.touchActivity(savedImage.getPost().getId());
+            eventPublisher.publishEvent(new PostChangedEvent(savedImage.getPost().getId()));
+        }
+        return savedImage;
     }
 
     @Override
@@ -127,6 +138,10 @@ public class PostImageServiceImpl implements PostImageService {
             }
 
             postImageRepository.delete(image);
+            if (post != null) {
+                postRepository.touchActivity(post.getId());
+                eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
+            }
         } catch (Exception e) {
             log.error("Failed to delete image with ID: {}", imageId, e);
             throw new RuntimeException("Failed to delete image", e);
@@ -0,0 +1,15 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.dto.response.PostImportResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface PostImportService {
+
+    /**
+     * Imports posts for the logged-in user from newline-delimited JSON, one post per line.
+     * Lines are validated and stored independently; failures are reported, not thrown.
+     */
+    PostImportResponse importPosts(InputStream ndjson) throws IOException;
+}
@@ -0,0 +1,299 @@
+package com.pen_penned.blog.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.pen_penned.blog.dto.request.PostImportRequest;
+import com.pen_penned.blog.dto.response.PostImportResponse;
+import com.pen_penned.blog.event.PostListingChangedEvent;
+import com.pen_penned.blog.exception.APIException;
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.BoundedLineReader;
+import com.pen_penned.blog.util.ContentStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Streams an NDJSON import straight into JDBC batches.
+ * <p>
+ * Only the current batch and a capped list of errors are held, so memory stays flat however
+ * long the stream is. Each batch of posts, their tags, their first revisions and the rollup counts
+ * is stored in one transaction. Should a batch fail, for example on a slug taken concurrently, its lines are
+ * retried one by one so only the offending lines are reported.
+ */
+@Slf4j
+@Service
+public class PostImportServiceImpl implements PostImportService {
+
+    private static final String INSERT_POST = "INSERT INTO posts (title, content, excerpt, word_count, " +
+            "reading_time_minutes, slug, is_published, publish_at, cover_image_url, user_id, comment_count, " +
+            "created_at, updated_at, activity_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, 0)";
+
+    private static final String INSERT_TAG = "INSERT INTO post_tags (post_id, tag) VALUES (?, ?)";
+
+    // Revision 1 as a snapshot, exactly what createPost records
+    private static final String INSERT_REVISION = "INSERT INTO post_revisions (post_id, revision_number, title, " +
+            "snapshot, body, content_length, editor_id, created_at) VALUES (?, 1, ?, true, ?, ?, ?, ?)";
+
+    // Soft-deleted posts still hold their slugs, so this reads the table directly
+    private static final String SELECT_TAKEN_SLUGS = "SELECT slug FROM posts WHERE slug = ANY(?)";
+
+    private record ImportRow(long line, PostImportRequest post, String slug, List<String> tags,
+                             boolean published, LocalDateTime publishAt, ContentStats stats) {
+    }
+
+    private final AuthUtil authUtil;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostRollupService postRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader lineReader;
+
+    @Value("${app.posts.import.batch-size:200}")
+    private int batchSize;
+
+    // Counted in characters, as the reader sees the decoded line
+    @Value("${app.posts.import.max-line-chars:1000000}")
+    private int maxLineChars;
+
+    @Value("${app.posts.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public PostImportServiceImpl(AuthUtil authUtil,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 PostRollupService postRollupService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ObjectMapper objectMapper) {
+        this.authUtil = authUtil;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postRollupService = postRollupService;
+        this.eventPublisher = eventPublisher;
+        this.lineReader = objectMapper.readerFor(PostImportRequest.class);
+    }
+
+    @Override
+    public PostImportResponse importPosts(InputStream ndjson) throws IOException {
+        User author = authUtil.loggedInUser();
+        PostImportResponse report = PostImportResponse.builder().errors(new ArrayList<>()).build();
+
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        try (BoundedLineReader reader = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8)),
+                maxLineChars)) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (reader.lastLineTooLong()) {
+                    fail(report, lineNumber, "Line is longer than " + maxLineChars + " characters");
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    batch.add(parse(lineNumber, line));
+                } catch (JsonProcessingException e) {
+                    fail(report, lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                } catch (APIException e) {
+                    fail(report, lineNumber, e.getMessage());
+                }
+
+                if (batch.size() == batchSize) {
+                    store(batch, author, report);
+                    batch.clear();
+                }
+            }
+        }
+        store(batch, author, report);
+
+        log.info("Imported {} posts for user {}, {} lines failed", report.getImported(), author.getId(),
+                report.getFailed());
+        return report;
+    }
+
+    private ImportRow parse(long lineNumber, String line) throws JsonProcessingException {
+        PostImportRequest post = lineReader.readValue(line);
+
+        // Same rules as the entity constraints, which JDBC inserts bypass
+        if (post.getTitle() == null || post.getTitle().isBlank()
+                || post.getTitle().length() < 5 || post.getTitle().length() > 255) {
+            throw new APIException("Title must be between 5 and 255 characters");
+        }
+        if (post.getContent() == null || post.getContent().isBlank()) {
+            throw new APIException("Content cannot be empty");
+        }
+        List<String> tags = post.getTags() != null ? post.getTags() : List.of();
+        if (tags.stream().anyMatch(tag -> tag == null || tag.isBlank() || tag.length() > 50)) {
+            throw new APIException("Tags must be between 1 and 50 characters");
+        }
+        if (post.getCoverImageUrl() != null) {
+            validateUrl(post.getCoverImageUrl());
+        }
+        // A future date would pin the post above everything in the feeds and the archive
+        if (post.getCreatedAt() != null && post.getCreatedAt().isAfter(LocalDateTime.now(ZoneOffset.UTC))) {
+            throw new APIException("createdAt cannot be in the future");
+        }
+
+        String slug = post.getSlug() != null && !post.getSlug().isBlank()
+                ? Post.normalizeSlug(post.getSlug())
+                : Post.slugFromTitle(post.getTitle());
+        if (slug.length() > 255) {
+            throw new APIException("Slug must be at most 255 characters");
+        }
+
+        // Scheduled posts stay drafts until ScheduledPostPublisher publishes them
+        boolean scheduled = Post.isScheduled(post.getPublishAt());
+        boolean published = !scheduled && !Boolean.FALSE.equals(post.getPublished());
+
+        return new ImportRow(lineNumber, post, slug, List.copyOf(tags), published,
+                scheduled ? post.getPublishAt() : null, ContentStats.of(post.getContent()));
+    }
+
+    private static void validateUrl(String url) {
+        try {
+            URI.create(url).toURL();
+        } catch (IllegalArgumentException | MalformedURLException e) {
+            throw new APIException("Cover image URL must be valid");
+        }
+        if (url.length() > 512) {
+            throw new APIException("Cover image URL must be at most 512 characters");
+        }
+    }
+
+    private void store(List<ImportRow> batch, User author, PostImportResponse report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Slugs taken by existing posts or earlier lines of this batch
+        Set<String> taken = new HashSet<>(jdbcTemplate.queryForList(SELECT_TAKEN_SLUGS, String.class,
+                (Object) batch.stream().map(ImportRow::slug).toArray(String[]::new)));
+        List<ImportRow> rows = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (taken.add(row.slug())) {
+                rows.add(row);
+            } else {
+                fail(report, row.line(), "Slug already exists: " + row.slug());
+            }
+        }
+
+        try {
+            insert(rows, author);
+            report.setImported(report.getImported() + rows.size());
+        } catch (DataAccessException batchFailure) {
+            // The batch was rolled back as a whole; find the lines that caused it
+            for (ImportRow row : rows) {
+                try {
+                    insert(List.of(row), author);
+                    report.setImported(report.getImported() + 1);
+                } catch (DuplicateKeyException e) {
+                    fail(report, row.line(), "Slug already exists: " + row.slug());
+                } catch (DataAccessException e) {
+                    log.warn("Import of line {} failed", row.line(), e);
+                    fail(report, row.line(), "Could not be stored");
+                }
+            }
+        }
+    }
+
+    private void insert(List<ImportRow> rows, User author) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC));
+        List<Long> postIds = transactionTemplate.execute(status -> {
+            GeneratedKeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_POST, new String[]{"post_id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ImportRow row = rows.get(i);
+                            ps.setString(1, row.post().getTitle());
+                            ps.setString(2, row.post().getContent());
+                            ps.setString(3, row.stats().excerpt());
+                            ps.setInt(4, row.stats().wordCount());
+                            ps.setInt(5, row.stats().readingTimeMinutes());
+                            ps.setString(6, row.slug());
+                            ps.setBoolean(7, row.published());
+                            ps.setTimestamp(8, row.publishAt() != null ? Timestamp.valueOf(row.publishAt()) : null);
+                            ps.setString(9, row.post().getCoverImageUrl());
+                            ps.setLong(10, author.getId());
+                            ps.setTimestamp(11, row.post().getCreatedAt() != null
+                                    ? Timestamp.valueOf(row.post().getCreatedAt()) : now);
+                            ps.setTimestamp(12, now);
+                            ps.setTimestamp(13, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    },
+                    keys);
+
+            // Keys come back in batch order
+            List<Long> insertedIds = keys.getKeyList().stream()
+                    .map(key -> ((Number) key.get("post_id")).longValue())
+                    .toList();
+
+            List<Object[]> tags = new ArrayList<>();
+            List<Object[]> revisions = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                ImportRow row = rows.get(i);
+                Long postId = insertedIds.get(i);
+                row.tags().forEach(tag -> tags.add(new Object[]{postId, tag}));
+                revisions.add(new Object[]{postId, row.post().getTitle(), row.post().getContent(),
+                        row.post().getContent().length(), author.getId(), now});
+            }
+            jdbcTemplate.batchUpdate(INSERT_TAG, tags);
+            jdbcTemplate.batchUpdate(INSERT_REVISION, revisions);
+            postRollupService.addPosts(insertedIds);
+            return insertedIds;
+        });
+
+        // Committed, so feeds and sitemaps pick the new posts up right away
+        eventPublisher.publishEvent(new PostListingChangedEvent(postIds));
+    }
+
+    private void fail(PostImportResponse report, long line, String message) {
+        report.setFailed(report.getFailed() + 1);
+        if (report.getErrors().size() < maxReportedErrors) {
+            report.getErrors().add(new PostImportResponse.LineError(line, message));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+}
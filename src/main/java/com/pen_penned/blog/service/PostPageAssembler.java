@@ -0,0 +1,89 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.dto.response.PostImageResponseDTO;
+import com.pen_penned.blog.dto.response.PostResponse;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
+import com.pen_penned.blog.mapper.PostMapper;
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.PostImage;
+import com.pen_penned.blog.repositories.PostImageRepository;
+import com.pen_penned.blog.repositories.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hydrates a page of posts into {@link PostResponse} objects.
+ * <p>
+ * Tags and images are loaded for the whole page at once and comment counts come from the
+ * denormalized counter, so the number of queries stays the same no matter how many posts are
+ * on the page. Callers are expected to load the posts with their author already fetched.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPageAssembler {
+
+    private final PostRepository postRepository;
+    private final PostImageRepository postImageRepository;
+    private final PostMapper postMapper;
+
+    public List<PostResponse> assemble(List<Post> posts) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        // One query per association for the whole page
+        Map<Long, List<String>> tagsByPost = loadTags(postIds);
+
+        Map<Long, List<PostImageResponseDTO>> imagesByPost = loadImages(postIds);
+
+        return posts.stream()
+                .map(post -> postMapper.toResponse(post,
+                        tagsByPost.getOrDefault(post.getId(), new ArrayList<>()),
+                        imagesByPost.getOrDefault(post.getId(), new ArrayList<>())))
+                .toList();
+    }
+
+    /**
+     * Adds tags to a page of summaries with a single query. Everything else is already
+     * populated by the projection.
+     */
+    public List<PostSummaryResponse> assembleSummaries(List<PostSummaryResponse> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+
+        List<Long> postIds = summaries.stream().map(PostSummaryResponse::getId).toList();
+
+        Map<Long, List<String>> tagsByPost = loadTags(postIds);
+        summaries.forEach(summary ->
+                summary.setTags(tagsByPost.getOrDefault(summary.getId(), new ArrayList<>())));
+
+        return summaries;
+    }
+
+    // Tags of many posts in one query, grouped by post id
+    public Map<Long, List<String>> loadTags(List<Long> postIds) {
+        Map<Long, List<String>> tagsByPost = new HashMap<>();
+        for (Object[] row : postRepository.findTagsByPostIds(postIds)) {
+            tagsByPost.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        return tagsByPost;
+    }
+
+    // Images of many posts in one query, grouped by post id
+    public Map<Long, List<PostImageResponseDTO>> loadImages(List<Long> postIds) {
+        Map<Long, List<PostImageResponseDTO>> imagesByPost = new HashMap<>();
+        for (PostImage image : postImageRepository.findByPostIdIn(postIds)) {
+            imagesByPost.computeIfAbsent(image.getPost().getId(), id -> new ArrayList<>())
+                    .add(PostImageResponseDTO.fromEntity(image));
+        }
+        return imagesByPost;
+    }
+}
@@ -0,0 +1,17 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.dto.response.PostRevisionResponse;
+import com.pen_penned.blog.dto.response.PostRevisionSummaryResponse;
+import com.pen_penned.blog.util.PageTotals;
+
+public interface PostRevisionService {
+
+    void recordRevision(Long postId, String title, String content, String previousTitle, String previousContent,
+                        Long editorId);
+
+    PageResponse<PostRevisionSummaryResponse> getRevisions(Long postId, Integer pageNumber, Integer pageSize,
+                                                           PageTotals totals);
+
+    PostRevisionResponse getRevision(Long postId, Integer revisionNumber);
+}
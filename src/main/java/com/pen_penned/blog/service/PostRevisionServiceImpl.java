@@ -0,0 +1,128 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.dto.response.PageResponse;
+import com.pen_penned.blog.dto.response.PostRevisionResponse;
+import com.pen_penned.blog.dto.response.PostRevisionSummaryResponse;
+import com.pen_penned.blog.exception.ResourceNotFoundException;
+import com.pen_penned.blog.model.PostRevision;
+import com.pen_penned.blog.repositories.PostRepository;
+import com.pen_penned.blog.repositories.PostRevisionRepository;
+import com.pen_penned.blog.util.ContentDelta;
+import com.pen_penned.blog.util.PageTotals;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class PostRevisionServiceImpl implements PostRevisionService {
+
+    private final PostRevisionRepository postRevisionRepository;
+    private final PostRepository postRepository;
+
+    // Upper bound on the deltas applied to rebuild one revision
+    @Value("${app.posts.revisions.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    /**
+     * Records the new title and content of a post as its next revision.
+     *
+     * @param postId          The post
+     * @param title           Title after the change
+     * @param content         Content after the change
+     * @param previousTitle   Title before the change, or null for a new post
+     * @param previousContent Content before the change, or null for a new post
+     * @param editorId        The user who made the change
+     */
+    @Override
+    @Transactional
+    public void recordRevision(Long postId, String title, String content, String previousTitle,
+                               String previousContent, Long editorId) {
+        Optional<Integer> latest = postRevisionRepository.findLatestRevisionNumber(postId);
+
+        int revisionNumber;
+        if (latest.isPresent()) {
+            revisionNumber = latest.get() + 1;
+        } else if (previousContent != null) {
+            // Posts written before revisions were kept get their state before this edit as revision 1;
+            // who wrote it is not known
+            save(postId, 1, previousTitle, true, previousContent, previousContent.length(), null);
+            revisionNumber = 2;
+        } else {
+            revisionNumber = 1;
+        }
+
+        boolean snapshot = previousContent == null || (revisionNumber - 1) % snapshotInterval == 0;
+        String body = snapshot ? content : ContentDelta.diff(previousContent, content);
+
+        // A rewrite can produce a delta bigger than the text itself
+        if (!snapshot && body.length() >= content.length()) {
+            snapshot = true;
+            body = content;
+        }
+
+        save(postId, revisionNumber, title, snapshot, body, content.length(), editorId);
+    }
+
+    private void save(Long postId, int revisionNumber, String title, boolean snapshot, String body,
+                      int contentLength, Long editorId) {
+        postRevisionRepository.save(PostRevision.builder()
+                .post(postRepository.getReferenceById(postId))
+                .revisionNumber(revisionNumber)
+                .title(title)
+                .snapshot(snapshot)
+                .body(body)
+                .contentLength(contentLength)
+                .editorId(editorId)
+                .build());
+    }
+
+    @Override
+    public PageResponse<PostRevisionSummaryResponse> getRevisions(
+            Long postId,
+            Integer pageNumber,
+            Integer pageSize,
+            PageTotals totals) {
+
+        // Newest revision first
+        Pageable pageDetails = PageRequest.of(pageNumber, pageSize, Sort.by("revisionNumber").descending());
+
+        Slice<PostRevisionSummaryResponse> revisionPage =
+                postRevisionRepository.findSummariesByPostId(postId, pageDetails);
+
+        return PageResponse.of(revisionPage.getContent(), revisionPage, totals,
+                () -> postRevisionRepository.countByPostId(postId));
+    }
+
+    @Override
+    public PostRevisionResponse getRevision(Long postId, Integer revisionNumber) {
+        // Fetch the nearest snapshot and the deltas after it in one query
+        List<PostRevision> chain = postRevisionRepository.findReconstructionChain(postId, revisionNumber);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevisionNumber() != revisionNumber) {
+            throw new ResourceNotFoundException("PostRevision", "revisionNumber", revisionNumber.longValue());
+        }
+
+        String content = chain.get(0).getBody();
+        for (PostRevision revision : chain.subList(1, chain.size())) {
+            content = revision.isSnapshot() ? revision.getBody() : ContentDelta.apply(content, revision.getBody());
+        }
+
+        PostRevision target = chain.get(chain.size() - 1);
+        return PostRevisionResponse.builder()
+                .postId(postId)
+                .revisionNumber(target.getRevisionNumber())
+                .title(target.getTitle())
+                .content(content)
+                .editorId(target.getEditorId())
+                .createdAt(target.getCreatedAt())
+                .build();
+    }
+}
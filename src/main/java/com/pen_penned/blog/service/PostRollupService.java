@@ -0,0 +1,34 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.dto.response.ArchiveMonthResponse;
+import com.pen_penned.blog.dto.response.TagCountResponse;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostRollupService {
+
+    /**
+     * Counts the posts as they are now. Call after a write that may have made posts visible,
+     * in the same transaction.
+     */
+    void addPosts(Collection<Long> postIds);
+
+    /**
+     * Uncounts the posts as they are now. Call before a write that may hide them or change
+     * their tags, in the same transaction.
+     */
+    void removePosts(Collection<Long> postIds);
+
+    List<ArchiveMonthResponse> getArchive();
+
+    List<TagCountResponse> getTagCounts(Integer limit);
+
+    /**
+     * Whether nothing has been counted yet, as on the first start after the rollup tables were
+     * created. Both tables are small, so this is cheap.
+     */
+    boolean isEmpty();
+
+    void rebuild();
+}
@@ -0,0 +1,82 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.dto.response.ArchiveMonthResponse;
+import com.pen_penned.blog.dto.response.TagCountResponse;
+import com.pen_penned.blog.exception.APIException;
+import com.pen_penned.blog.repositories.PostArchiveCountRepository;
+import com.pen_penned.blog.repositories.TagCountRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the archive and tag counts in step with the posts.
+ * <p>
+ * Writers remove a post's contribution before changing it and add it back afterwards, so the
+ * rollups never need to know what changed: both steps read the post from the database, and any
+ * write that leaves the post uncounted simply adds nothing. Each step is one upsert per table,
+ * whatever the number of posts.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRollupServiceImpl implements PostRollupService {
+
+    private final PostArchiveCountRepository postArchiveCountRepository;
+    private final TagCountRepository tagCountRepository;
+
+    @Value("${app.tags.counts.max-limit:500}")
+    private int maxTagLimit;
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void addPosts(Collection<Long> postIds) {
+        adjust(postIds, 1);
+    }
+
+    @Override
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void removePosts(Collection<Long> postIds) {
+        adjust(postIds, -1);
+    }
+
+    private void adjust(Collection<Long> postIds, int delta) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        postArchiveCountRepository.adjust(postIds, delta);
+        tagCountRepository.adjust(postIds, delta);
+    }
+
+    @Override
+    public List<ArchiveMonthResponse> getArchive() {
+        return postArchiveCountRepository.findArchive();
+    }
+
+    @Override
+    public List<TagCountResponse> getTagCounts(Integer limit) {
+        if (limit < 1 || limit > maxTagLimit) {
+            throw new APIException("limit must be between 1 and " + maxTagLimit);
+        }
+        return tagCountRepository.findTopTags(Limit.of(limit));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return postArchiveCountRepository.count() == 0 && tagCountRepository.count() == 0;
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        int months = postArchiveCountRepository.rebuildCounted() + postArchiveCountRepository.deleteUncounted();
+        int tags = tagCountRepository.rebuildCounted() + tagCountRepository.deleteUncounted();
+        log.info("Post rollups rebuilt, {} archive months and {} tags corrected", months, tags);
+    }
+}
@@ -1,34 +1,74 @@
 package com.pen_penned.blog.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pen_penned.blog.cache.PostCacheStamp;
+import com.pen_penned.blog.cache.PostPageStamp;
 import com.pen_penned.blog.dto.request.PostRequest;
+import com.pen_penned.blog.dto.response.CursorPageResponse;
+import com.pen_penned.blog.dto.response.MultiGetResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.dto.response.PostDetailsResponse;
 import com.pen_penned.blog.dto.response.PostResponse;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
 import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.util.PageTotals;
 
 import java.nio.file.AccessDeniedException;
+import java.util.List;
+import java.util.Map;
 
 public interface PostService {
 
 
     PostResponse createPost(PostRequest postRequest, User user);
 
-    PageResponse<PostResponse> getAllPosts(Integer pageNumber, Integer pageSize,
-                                           String sortBy, String sortOrder);
+    PageResponse<PostResponse> getAllPosts(PostPageStamp page);
+
+    PageResponse<PostSummaryResponse> getPostSummaries(PostPageStamp page);
+
+    PageResponse<Map<String, Object>> getPostFields(PostPageStamp page, String fields);
+
+    Map<String, Object> getPostFieldsById(Long postId, String fields);
+
+    CursorPageResponse<PostResponse> getPostFeed(String cursor, Integer pageSize);
+
+    CursorPageResponse<PostSummaryResponse> getPostSummaryFeed(String cursor, Integer pageSize);
+
+    MultiGetResponse<PostResponse> getPostsByIds(List<Long> ids);
+
+    MultiGetResponse<PostSummaryResponse> getPostSummariesByIds(List<Long> ids);
 
     PostDetailsResponse getPostById(Long postId);
 
+    PostDetailsResponse getPostById(PostCacheStamp stamp);
+
+    PostDetailsResponse getPostHtmlById(PostCacheStamp stamp);
+
+    PostCacheStamp getPostStamp(Long postId);
+
+    PostCacheStamp getPostStampBySlug(String slug);
+
+    PostPageStamp getPostPageStamp(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder,
+                                   PageTotals totals);
+
+    String getPostFeedETag(String cursor, Integer pageSize, String view);
+
     PageResponse<PostResponse> getUserPosts(User user, Integer pageNumber,
                                             Integer pageSize, String sortBy, String sortOrder);
 
     PageResponse<PostResponse> getPostsByUserId(Long userId, Integer pageNumber, Integer pageSize,
                                                 String sortBy, String sortOrder);
 
-    PostResponse updatePost(Long postId, PostRequest postRequest) throws AccessDeniedException;
+    PageResponse<PostSummaryResponse> getPostSummariesByUserId(Long userId, Integer pageNumber, Integer pageSize,
+                                                               String sortBy, String sortOrder);
+
+    PostResponse updatePost(Long postId, PostRequest postRequest, Long expectedVersion) throws AccessDeniedException;
 
-    void deletePost(Long postId) throws AccessDeniedException;
+    void deletePost(Long postId, Long expectedVersion) throws AccessDeniedException;
 
     PostResponse getPostResponseById(Long postId);
 
+    PostSummaryResponse patchPost(Long postId, JsonNode patch, Long expectedVersion) throws AccessDeniedException;
+
     void verifyPostOwnership(Long postId, Long userId) throws AccessDeniedException;
 }
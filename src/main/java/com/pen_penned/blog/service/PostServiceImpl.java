@@ -1,31 +1,74 @@
 package com.pen_penned.blog.service;
 
-import com.pen_penned.blog.dto.request.CommentRequest;
+import com.pen_penned.blog.cache.PostCacheStamp;
+import com.pen_penned.blog.cache.PostDetailsCache;
+import com.pen_penned.blog.cache.PostHtmlCache;
+import com.pen_penned.blog.cache.PostPageStamp;
+import com.pen_penned.blog.cache.PostSlugCache;
 import com.pen_penned.blog.dto.request.PostRequest;
+import com.pen_penned.blog.dto.response.CommentResponse;
+import com.pen_penned.blog.dto.response.CursorPageResponse;
+import com.pen_penned.blog.dto.response.MultiGetResponse;
 import com.pen_penned.blog.dto.response.PageResponse;
 import com.pen_penned.blog.dto.response.PostDetailsResponse;
 import com.pen_penned.blog.dto.response.PostImageResponseDTO;
 import com.pen_penned.blog.dto.response.PostResponse;
+import com.pen_penned.blog.dto.response.PostSummaryResponse;
+import com.pen_penned.blog.event.PostChangedEvent;
+import com.pen_penned.blog.event.PostListingChangedEvent;
+import com.pen_penned.blog.event.PostSlugChangedEvent;
+import com.pen_penned.blog.exception.APIException;
+import com.pen_penned.blog.exception.PreconditionFailedException;
 import com.pen_penned.blog.exception.ResourceNotFoundException;
+import com.pen_penned.blog.mapper.CommentMapper;
+import com.pen_penned.blog.mapper.PostMapper;
 import com.pen_penned.blog.model.Post;
 import com.pen_penned.blog.model.PostImage;
 import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.projection.FieldSet;
+import com.pen_penned.blog.projection.SparseFieldQuery;
+import com.pen_penned.blog.projection.SparseFieldRepository;
+import com.pen_penned.blog.projection.SparseFields;
 import com.pen_penned.blog.repositories.CommentRepository;
+import com.pen_penned.blog.repositories.PatchUpdateRepository;
 import com.pen_penned.blog.repositories.PostImageRepository;
+import com.pen_penned.blog.repositories.PostRenderedContentRepository;
 import com.pen_penned.blog.repositories.PostRepository;
+import com.pen_penned.blog.repositories.TableStatisticsRepository;
 import com.pen_penned.blog.repositories.UserRepository;
+import com.pen_penned.blog.runner.SchemaIndexInitializer;
 import com.pen_penned.blog.util.AuthUtil;
+import com.pen_penned.blog.util.ContentStats;
+import com.pen_penned.blog.util.FeedCursor;
+import com.pen_penned.blog.util.MergePatch;
+import com.pen_penned.blog.util.PageTotals;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
 import java.nio.file.AccessDeniedException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,39 +76,53 @@ import java.util.stream.Collectors;
 public class PostServiceImpl implements PostService {
 
     private final AuthUtil authUtil;
-    private final ModelMapper modelMapper;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final PostImageRepository postImageRepository;
     private final ImageProcessingService imageProcessingService;
     private final S3Service s3Service;
+    private final PostPageAssembler postPageAssembler;
+    private final PostMapper postMapper;
+    private final CommentMapper commentMapper;
+    private final PostDetailsCache postDetailsCache;
+    private final PostSlugCache postSlugCache;
+    private final PostHtmlCache postHtmlCache;
+    private final PostRenderedContentRepository postRenderedContentRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final PostRevisionService postRevisionService;
+    private final PostRollupService postRollupService;
+    private final PatchUpdateRepository patchUpdateRepository;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final TableStatisticsRepository tableStatisticsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.posts.comment-preview-size:10}")
+    private int commentPreviewSize;
+
+    @Value("${app.posts.multi-get.max-ids:100}")
+    private int multiGetMaxIds;
 
     @Override
+    @Transactional
     public PostResponse createPost(PostRequest postRequest, User user) {
         // Map DTO to Entity
-        Post post = modelMapper.map(postRequest, Post.class);
+        Post post = postMapper.toEntity(postRequest);
         post.setAuthor(user);
+        post.refreshContentStats();
 
-        // Set published to true
-        post.setPublished(true);
-
-        // Add post to user's post list
-        List<Post> postList = user.getPosts();
-        postList.add(post);
-        user.setPosts(postList);
-
-        Post savedPost = postRepository.save(post);
-
-        PostResponse postResponse = modelMapper.map(savedPost, PostResponse.class);
+        // Published right away unless scheduled for later
+        applySchedule(post, postRequest.getPublishAt());
 
-        // Set author details
-        postResponse.setAuthorId(user.getId());
-        postResponse.setAuthorFirstName(user.getFirstName());
-        postResponse.setAuthorLastName(user.getLastName());
+        // Flushed with its tags, which the rollups read back
+        Post savedPost = postRepository.saveAndFlush(post);
+        postRevisionService.recordRevision(savedPost.getId(), savedPost.getTitle(), savedPost.getContent(),
+                null, null, user.getId());
+        postRollupService.addPosts(List.of(savedPost.getId()));
+        eventPublisher.publishEvent(PostListingChangedEvent.of(savedPost.getId()));
 
-        //  Ensure comments is zero
-        postResponse.setCommentCount(0);
+        // Author details come from the post, comment count starts at zero
+        PostResponse postResponse = postMapper.toResponse(savedPost, new ArrayList<>(savedPost.getTags()), new ArrayList<>());
 
         // Handle image IDs if any are provided
         if (postRequest.getImageIds() != null && !postRequest.getImageIds().isEmpty()) {
@@ -86,71 +143,280 @@ public class PostServiceImpl implements PostService {
 
 
     @Override
-    public PageResponse<PostResponse> getAllPosts(
-            Integer pageNumber,
-            Integer pageSize,
-            String sortBy,
-            String sortOrder) {
+    public PageResponse<PostResponse> getAllPosts(PostPageStamp page) {
+        // Fetch the stamped posts with their authors, then convert them in a fixed number of queries
+        List<PostResponse> postResponse = inPageOrder(page,
+                postPageAssembler.assemble(postRepository.findByIdIn(page.postIds())), PostResponse::getId);
+
+        return page.toPage(postResponse);
+    }
+
+    @Override
+    public PageResponse<PostSummaryResponse> getPostSummaries(PostPageStamp page) {
+        // Fetch card columns only
+        List<PostSummaryResponse> summaries = inPageOrder(page,
+                postPageAssembler.assembleSummaries(postRepository.findSummariesByIdIn(page.postIds())),
+                PostSummaryResponse::getId);
+
+        return page.toPage(summaries);
+    }
+
+    @Override
+    public PageResponse<Map<String, Object>> getPostFields(PostPageStamp page, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, SparseFields.POST_FIELDS);
+        List<Long> postIds = page.postIds();
+        if (postIds.isEmpty()) {
+            return page.toPage(List.of());
+        }
 
+        // Read only the selected columns of the stamped posts
+        Slice<Map<String, Object>> fieldRows = sparseFieldRepository.findSlice(
+                new SparseFieldQuery(Post.class, "p", fieldSet.columns(SparseFields.POST_COLUMNS),
+                        "p.id IN :postIds", Map.of("postIds", postIds)),
+                PageRequest.of(0, postIds.size()));
+
+        List<Map<String, Object>> rows = inPageOrder(page, fieldRows.getContent(), row -> (Long) row.get("id"));
+        addPostCollections(rows, fieldSet);
+
+        return page.toPage(rows);
+    }
+
+    @Override
+    public PostPageStamp getPostPageStamp(Integer pageNumber, Integer pageSize, String sortBy, String sortOrder,
+                                          PageTotals totals) {
         //  Sort configuration
-        Sort sortByAnyOrder = sortOrder.equalsIgnoreCase("asc")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
+        Sort sortByAnyOrder = postSort(sortBy, sortOrder);
 
         Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAnyOrder);
 
-        // Fetch posts
-        Page<Post> pagePosts = postRepository.findAll(pageDetails);
+        // Only the validator columns; the listing then loads its content by these ids
+        Slice<PostCacheStamp> stampPage = postRepository.findAllStamps(pageDetails);
 
-        List<Post> posts = pagePosts.getContent();
+        // Counting only when a total was asked for
+        Long totalElements = totals.resolve(stampPage,
+                postRepository::countByPublishedTrue, this::estimatePublishedPosts);
 
-        // Convert posts to DTOs
-        List<PostResponse> postResponse = posts.stream()
-                .map(post -> {
-                    PostResponse response = modelMapper.map(post, PostResponse.class);
-                    response.setCommentCount(commentRepository.getCommentCountByPostId(post.getId()));
+        return new PostPageStamp(stampPage, totals, totalElements);
+    }
 
-                    // Add image to response
-                    List<PostImage> images = postImageRepository.findByPostId(post.getId());
-                    if (images != null && !images.isEmpty()) {
-                        List<PostImageResponseDTO> imageResponse = images.stream()
-                                .map(PostImageResponseDTO::fromEntity)
-                                .collect(Collectors.toList());
-                        response.setImages(imageResponse);
-                    }
+    // Id lookups come back in any order; restores the order of the stamped page
+    private <T> List<T> inPageOrder(PostPageStamp page, List<T> items, Function<T, Long> idOf) {
+        Map<Long, T> byId = items.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return page.postIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-                    return response;
-                }).toList();
+    // Published posts are exactly the entries of the partial feed index, so its statistics estimate them
+    private long estimatePublishedPosts() {
+        return tableStatisticsRepository.estimateRows(SchemaIndexInitializer.PUBLISHED_FEED_INDEX)
+                .orElseGet(postRepository::countByPublishedTrue);
+    }
 
-        // Prepare PostResponse
-        return new PageResponse<>(
-                postResponse,
-                pagePosts.getNumber(),
-                pagePosts.getSize(),
-                pagePosts.getTotalElements(),
-                pagePosts.getTotalPages(),
-                pagePosts.isLast()
+    @Override
+    public Map<String, Object> getPostFieldsById(Long postId, String fields) {
+        FieldSet fieldSet = FieldSet.parse(fields, SparseFields.POST_FIELDS);
+
+        Map<String, Object> row = sparseFieldRepository.findOne(
+                        new SparseFieldQuery(Post.class, "p", fieldSet.columns(SparseFields.POST_COLUMNS),
+                                "p.id = :postId", Map.of("postId", postId)))
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", postId));
+
+        addPostCollections(List.of(row), fieldSet);
+        return row;
+    }
+
+    // Tags and images are only queried when selected, one batch for all rows
+    private void addPostCollections(List<Map<String, Object>> rows, FieldSet fieldSet) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Long> postIds = rows.stream().map(row -> (Long) row.get("id")).toList();
+
+        if (fieldSet.contains("tags")) {
+            Map<Long, List<String>> tagsByPost = postPageAssembler.loadTags(postIds);
+            rows.forEach(row -> row.put("tags", tagsByPost.getOrDefault((Long) row.get("id"), List.of())));
+        }
+        if (fieldSet.contains("images")) {
+            Map<Long, List<PostImageResponseDTO>> imagesByPost = postPageAssembler.loadImages(postIds);
+            rows.forEach(row -> row.put("images", imagesByPost.getOrDefault((Long) row.get("id"), List.of())));
+        }
+    }
+
+    @Override
+    public CursorPageResponse<PostResponse> getPostFeed(String cursor, Integer pageSize) {
+        FeedCursor after = FeedCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists, without counting
+        Limit limit = Limit.of(pageSize + 1);
+        List<Post> posts = after == null
+                ? postRepository.findFeedFirstPage(limit)
+                : postRepository.findFeedPageAfter(after.createdAt(), after.id(), limit);
+
+        return toCursorPage(posts, pageSize,
+                post -> new FeedCursor(post.getCreatedAt(), post.getId()),
+                postPageAssembler::assemble);
+    }
+
+    @Override
+    public CursorPageResponse<PostSummaryResponse> getPostSummaryFeed(String cursor, Integer pageSize) {
+        FeedCursor after = FeedCursor.decode(cursor);
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<PostSummaryResponse> summaries = after == null
+                ? postRepository.findFeedSummaryFirstPage(limit)
+                : postRepository.findFeedSummaryPageAfter(after.createdAt(), after.id(), limit);
+
+        return toCursorPage(summaries, pageSize,
+                summary -> new FeedCursor(summary.getCreatedAt(), summary.getId()),
+                postPageAssembler::assembleSummaries);
+    }
+
+    // Trims the extra look-ahead row and derives the cursor of the next page from the last row
+    private <T, R> CursorPageResponse<R> toCursorPage(List<T> rows, Integer pageSize,
+                                                      Function<T, FeedCursor> cursorOf,
+                                                      Function<List<T>, List<R>> hydrate) {
+        boolean hasNext = rows.size() > pageSize;
+        String nextCursor = null;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = cursorOf.apply(rows.get(rows.size() - 1)).encode();
+        }
+
+        return new CursorPageResponse<>(
+                hydrate.apply(rows),
+                pageSize,
+                nextCursor,
+                hasNext
         );
     }
 
+    @Override
+    public MultiGetResponse<PostResponse> getPostsByIds(List<Long> ids) {
+        return toMultiGet(ids,
+                postIds -> postPageAssembler.assemble(postRepository.findByIdIn(postIds)),
+                PostResponse::getId);
+    }
+
+    @Override
+    public MultiGetResponse<PostSummaryResponse> getPostSummariesByIds(List<Long> ids) {
+        return toMultiGet(ids,
+                postIds -> postPageAssembler.assembleSummaries(postRepository.findSummariesByIdIn(postIds)),
+                PostSummaryResponse::getId);
+    }
+
+    // Loads the whole id set in one batch, then restores the caller's order and reports the gaps
+    private <T> MultiGetResponse<T> toMultiGet(List<Long> ids, Function<List<Long>, List<T>> load,
+                                               Function<T, Long> idOf) {
+        List<Long> uniqueIds = List.copyOf(new LinkedHashSet<>(ids));
+        if (uniqueIds.size() > multiGetMaxIds) {
+            throw new APIException("At most " + multiGetMaxIds + " post ids can be requested at once");
+        }
+        if (uniqueIds.isEmpty()) {
+            return new MultiGetResponse<>(List.of(), List.of());
+        }
+
+        Map<Long, T> found = load.apply(uniqueIds).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        List<T> content = new ArrayList<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : uniqueIds) {
+            T item = found.get(id);
+            if (item != null) {
+                content.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        return new MultiGetResponse<>(content, missingIds);
+    }
+
     @Override
     public PostDetailsResponse getPostById(Long postId) {
-        // Fetch the post by ID
-        Post post = postRepository.findById(postId)
+        return getPostById(getPostStamp(postId));
+    }
+
+    @Override
+    public PostDetailsResponse getPostById(PostCacheStamp stamp) {
+        // The full response is only rebuilt when the stamp changed
+        return postDetailsCache.get(stamp, () -> loadPostDetails(stamp.postId()));
+    }
+
+    @Override
+    public PostDetailsResponse getPostHtmlById(PostCacheStamp stamp) {
+        PostDetailsResponse postDetailsResponse = getPostById(stamp);
+
+        // Rendered at most once per version: memory first, then the stored copy, then the renderer
+        String contentHtml = postHtmlCache.get(stamp.postId(), stamp.version(),
+                () -> postRenderedContentRepository.findHtml(stamp.postId(), stamp.version())
+                        .orElseGet(() -> renderContent(stamp, postDetailsResponse.getContent())));
+
+        // The cached details are shared, so the HTML goes on a copy
+        return postDetailsResponse.toBuilder().contentHtml(contentHtml).build();
+    }
+
+    private String renderContent(PostCacheStamp stamp, String content) {
+        String contentHtml = markdownRenderer.render(content);
+        postRenderedContentRepository.upsert(stamp.postId(), stamp.version(), contentHtml);
+        return contentHtml;
+    }
+
+    @Override
+    public PostCacheStamp getPostStamp(Long postId) {
+        return postRepository.findCacheStampById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", postId));
+    }
+
+    @Override
+    public PostCacheStamp getPostStampBySlug(String slug) {
+        String normalizedSlug = Post.normalizeSlug(slug);
+
+        // A cached id is verified against the stamp; a post renamed or deleted elsewhere costs one retry
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long postId = postSlugCache.get(normalizedSlug, s -> postRepository.findIdBySlug(s)
+                    .orElseThrow(() -> new ResourceNotFoundException("Post", "slug", slug)));
 
-        // Map post to DTO
-        PostDetailsResponse postDetailsResponse = modelMapper.map(post, PostDetailsResponse.class);
+            Optional<PostCacheStamp> stamp = postRepository.findCacheStampById(postId);
+            if (stamp.isPresent() && stamp.get().slug().equals(normalizedSlug)) {
+                return stamp.get();
+            }
+            postSlugCache.invalidate(normalizedSlug);
+        }
 
-        // Set comment count
-        postDetailsResponse.setCommentCount(commentRepository.getCommentCountByPostId(post.getId()));
+        throw new ResourceNotFoundException("Post", "slug", slug);
+    }
 
-        // Load comments with author names
-        List<CommentRequest> comments = post.getComments().stream()
-                .map(comment -> modelMapper.map(comment, CommentRequest.class))
+    @Override
+    public String getPostFeedETag(String cursor, Integer pageSize, String view) {
+        FeedCursor after = FeedCursor.decode(cursor);
+
+        // Includes the look-ahead row, so a change in hasNext changes the tag as well
+        Limit limit = Limit.of(pageSize + 1);
+        List<PostCacheStamp> stamps = after == null
+                ? postRepository.findFeedStampFirstPage(limit)
+                : postRepository.findFeedStampPageAfter(after.createdAt(), after.id(), limit);
+
+        return PostCacheStamp.eTagOf(stamps, view, pageSize);
+    }
+
+    private PostDetailsResponse loadPostDetails(Long postId) {
+        // Fetch the post by ID
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", postId));
+
+        // Newest comments only, authors fetched in the same query
+        List<CommentResponse> comments = commentRepository
+                .findLatestByPostId(postId, Limit.of(commentPreviewSize)).stream()
+                .map(commentMapper::toResponse)
                 .toList();
 
-        postDetailsResponse.setComments(comments);
+        // Map post to DTO, comment count comes from the denormalized counter
+        PostDetailsResponse postDetailsResponse =
+                postMapper.toDetailsResponse(post, new ArrayList<>(post.getTags()), comments, new ArrayList<>());
 
         // Add images to response
         List<PostImage> images = postImageRepository.findByPostId(post.getId());
@@ -173,32 +439,14 @@ public class PostServiceImpl implements PostService {
             String sortBy,
             String sortOrder) {
         //  Sort configuration
-        Sort sortByAnyOrder = sortOrder.equalsIgnoreCase("asc")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
+        Sort sortByAnyOrder = postSort(sortBy, sortOrder);
 
         Pageable pageDetails = PageRequest.of(pageNumber, pageSize, sortByAnyOrder);
 
         // Get paginated posts for the user
         Page<Post> pagePosts = postRepository.findByAuthor(user, pageDetails);
 
-        List<PostResponse> postResponse = pagePosts.getContent().stream()
-                .map(post -> {
-                    PostResponse response = modelMapper.map(post, PostResponse.class);
-                    response.setCommentCount(post.getComments().size());
-
-                    // Add image to response
-                    List<PostImage> images = postImageRepository.findByPostId(post.getId());
-                    if (images != null && !images.isEmpty()) {
-                        List<PostImageResponseDTO> imageResponses = images.stream()
-                                .map(PostImageResponseDTO::fromEntity)
-                                .collect(Collectors.toList());
-                        response.setImages(imageResponses);
-                    }
-
-                    return response;
-                })
-                .toList();
+        List<PostResponse> postResponse = postPageAssembler.assemble(pagePosts.getContent());
 
         return new PageResponse<>(
                 postResponse,
@@ -219,36 +467,20 @@ public class PostServiceImpl implements PostService {
             String sortOrder) {
 
         // Validate user exists
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
 
         // Sort and pagination
-        Sort sort = sortOrder.equalsIgnoreCase("asc")
-                ? Sort.by(sortBy).ascending()
-                : Sort.by(sortBy).descending();
+        Sort sort = postSort(sortBy, sortOrder);
 
         Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
 
-        // Fetch posts by user
-        Page<Post> postsPage = postRepository.findByAuthor(user, pageable);
-
-        // Map to PostResponse with comment count
-        List<PostResponse> postResponse = postsPage.getContent().stream()
-                .map(post -> {
-                    PostResponse response = modelMapper.map(post, PostResponse.class);
-                    response.setCommentCount(post.getComments().size());
-
-                    // Add images to response
-                    List<PostImage> images = postImageRepository.findByPostId(post.getId());
-                    if (images != null && !images.isEmpty()) {
-                        List<PostImageResponseDTO> imageResponses = images.stream()
-                                .map(PostImageResponseDTO::fromEntity)
-                                .collect(Collectors.toList());
-                        response.setImages(imageResponses);
-                    }
-                    return response;
-                })
-                .toList();
+        // Fetch the user's published posts; drafts are only listed on /me/posts
+        Page<Post> postsPage = postRepository.findByAuthorIdAndPublishedTrue(userId, pageable);
+
+        // Map to PostResponse with comment count and images
+        List<PostResponse> postResponse = postPageAssembler.assemble(postsPage.getContent());
 
         // Return paginated response
         return new PageResponse<>(
@@ -261,9 +493,41 @@ public class PostServiceImpl implements PostService {
         );
     }
 
+    @Override
+    public PageResponse<PostSummaryResponse> getPostSummariesByUserId(
+            Long userId,
+            Integer pageNumber,
+            Integer pageSize,
+            String sortBy,
+            String sortOrder) {
+
+        // Validate user exists
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+
+        // Sort and pagination
+        Sort sort = postSort(sortBy, sortOrder);
+
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+
+        // Fetch card columns only
+        Page<PostSummaryResponse> summaryPage = postRepository.findSummariesByAuthorId(userId, pageable);
+
+        return new PageResponse<>(
+                postPageAssembler.assembleSummaries(summaryPage.getContent()),
+                summaryPage.getNumber(),
+                summaryPage.getSize(),
+                summaryPage.getTotalElements(),
+                summaryPage.getTotalPages(),
+                summaryPage.isLast()
+        );
+    }
+
     @Override
     @Transactional
-    public PostResponse updatePost(Long postId, PostRequest postRequest) throws AccessDeniedException {
+    public PostResponse updatePost(Long postId, PostRequest postRequest, Long expectedVersion)
+            throws AccessDeniedException {
         // Fetch the existing post
         Post existingPost = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", postId));
@@ -274,27 +538,80 @@ public class PostServiceImpl implements PostService {
             throw new AccessDeniedException("You do not have permission to update this post.");
         }
 
+        // A full update loads the post anyway, so fail before touching images or the body
+        if (expectedVersion != null && existingPost.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("Post", postId);
+        }
+
+        // Uncounted before anything changes, counted again once flushed
+        boolean rollupsChange = postRequest.getPublished() != null || postRequest.getPublishAt() != null
+                || postRequest.getTags() != null;
+        if (rollupsChange) {
+            postRollupService.removePosts(List.of(postId));
+        }
+
+        // Keep the old slug so its cached lookup can be dropped
+        String oldSlug = existingPost.getSlug();
+        boolean wasPublished = existingPost.isPublished();
+
+        // And the old title and content, which the next revision is diffed against
+        String oldTitle = existingPost.getTitle();
+        String oldContent = existingPost.getContent();
+
         // Update only non-null fields
         if (postRequest.getTitle() != null) existingPost.setTitle(postRequest.getTitle());
-        if (postRequest.getContent() != null) existingPost.setContent(postRequest.getContent());
+        if (postRequest.getContent() != null) {
+            existingPost.setContent(postRequest.getContent());
+            existingPost.refreshContentStats();
+        }
         if (postRequest.getSlug() != null) existingPost.setSlug(postRequest.getSlug());
         if (postRequest.getTags() != null) existingPost.setTags(postRequest.getTags());
         if (postRequest.getCoverImageUrl() != null) existingPost.setCoverImageUrl(postRequest.getCoverImageUrl());
         if (postRequest.getPublished() != null) existingPost.setPublished(postRequest.getPublished());
 
+        // A schedule decides the published state; an explicit published state cancels any schedule
+        if (postRequest.getPublishAt() != null) {
+            applySchedule(existingPost, postRequest.getPublishAt());
+        } else if (postRequest.getPublished() != null) {
+            existingPost.setPublishAt(null);
+        }
+
         // Handle image IDs if any are provided
         if (postRequest.getImageIds() != null) {
             updatePostImages(existingPost, postRequest.getImageIds());
+            postRepository.touchActivity(postId);
         }
 
-        // Save updated post
-        Post updatedPost = postRepository.save(existingPost);
+        // Flushed here so the response carries the new version, and a concurrent edit fails now
+        Post updatedPost;
+        try {
+            updatedPost = postRepository.saveAndFlush(existingPost);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Post", postId);
+            }
+            throw e;
+        }
+        if (!wasPublished && updatedPost.isPublished()) {
+            LocalDateTime publishedAt = LocalDateTime.now(ZoneOffset.UTC);
+            postRepository.updatePublishedAt(postId, publishedAt);
+            updatedPost.setCreatedAt(publishedAt);
+        }
+        if (rollupsChange) {
+            postRollupService.addPosts(List.of(postId));
+        }
+        if (!updatedPost.getTitle().equals(oldTitle) || !updatedPost.getContent().equals(oldContent)) {
+            postRevisionService.recordRevision(postId, updatedPost.getTitle(), updatedPost.getContent(),
+                    oldTitle, oldContent, loggedInUser.getId());
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(PostListingChangedEvent.of(postId));
+        if (postRequest.getSlug() != null && !Post.normalizeSlug(postRequest.getSlug()).equals(oldSlug)) {
+            eventPublisher.publishEvent(new PostSlugChangedEvent(postId, oldSlug));
+        }
 
         // Convert to DTO
-        PostResponse postResponse = modelMapper.map(updatedPost, PostResponse.class);
-        postResponse.setAuthorFirstName(loggedInUser.getFirstName());
-        postResponse.setAuthorLastName(loggedInUser.getLastName());
-        postResponse.setCommentCount(commentRepository.getCommentCountByPostId(postId));
+        PostResponse postResponse = postMapper.toResponse(updatedPost, new ArrayList<>(updatedPost.getTags()), new ArrayList<>());
 
         // Add images to response
         List<PostImage> images = postImageRepository.findByPostId(postId);
@@ -309,9 +626,154 @@ public class PostServiceImpl implements PostService {
     }
 
 
+    private static final Set<String> PATCHABLE_FIELDS =
+            Set.of("title", "content", "slug", "tags", "coverImageUrl", "published", "publishAt");
+
+    @Override
+    @Transactional
+    public PostSummaryResponse patchPost(Long postId, JsonNode patchDocument, Long expectedVersion)
+            throws AccessDeniedException {
+        MergePatch patch = MergePatch.of(patchDocument, PATCHABLE_FIELDS);
+        User loggedInUser = authUtil.loggedInUser();
+
+        // Validators only; the post itself is never loaded
+        PostCacheStamp stamp = getPostStamp(postId);
+        if (patch.isEmpty()) {
+            verifyPostOwnership(postId, loggedInUser.getId());
+            if (expectedVersion != null && stamp.version() != expectedVersion) {
+                throw new PreconditionFailedException("Post", postId);
+            }
+            return postPageAssembler.assembleSummaries(postRepository.findSummariesByIdIn(List.of(postId))).get(0);
+        }
+
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        if (patch.has("title")) {
+            String title = patch.requiredText("title");
+            if (title.length() < 5 || title.length() > 255) {
+                throw new APIException("Title must be between 5 and 255 characters");
+            }
+            assignments.put("title", title);
+        }
+        if (patch.has("content")) {
+            String content = patch.requiredText("content");
+            ContentStats stats = ContentStats.of(content);
+            assignments.put("content", content);
+            assignments.put("excerpt", stats.excerpt());
+            assignments.put("wordCount", stats.wordCount());
+            assignments.put("readingTimeMinutes", stats.readingTimeMinutes());
+        }
+        if (patch.has("slug")) {
+            assignments.put("slug", Post.normalizeSlug(patch.requiredText("slug")));
+        }
+        if (patch.has("coverImageUrl")) {
+            assignments.put("coverImageUrl", validCoverImageUrl(patch.text("coverImageUrl")));
+        }
+        if (patch.has("published")) {
+            // Publishing or unpublishing by hand cancels any schedule
+            assignments.put("published", patch.requiredBoolean("published"));
+            assignments.put("publishAt", null);
+        }
+        if (patch.has("publishAt")) {
+            LocalDateTime publishAt = patch.dateTime("publishAt");
+            boolean scheduled = Post.isScheduled(publishAt);
+            if (publishAt != null) {
+                if (patch.has("published") && patch.requiredBoolean("published") == scheduled) {
+                    throw new APIException("published contradicts publishAt");
+                }
+                assignments.put("published", !scheduled);
+            }
+            assignments.put("publishAt", scheduled ? publishAt : null);
+        }
+        List<String> tags = patch.has("tags") ? patch.textList("tags") : null;
+        if (tags != null && tags.stream().anyMatch(tag -> tag.isBlank() || tag.length() > 50)) {
+            throw new APIException("Tags must be between 1 and 50 characters");
+        }
+
+        // The revision diffs against the stored text, so it is read only when the patch changes it
+        boolean textChanged = patch.has("title") || patch.has("content");
+        String oldTitle = textChanged ? postRepository.findTitleById(postId).orElseThrow() : null;
+        String oldContent = textChanged ? postRepository.findContentById(postId).orElseThrow() : null;
+
+        // A failed UPDATE below rolls this back with the rest
+        boolean rollupsChange = patch.has("published") || patch.has("publishAt") || tags != null;
+        if (rollupsChange) {
+            postRollupService.removePosts(List.of(postId));
+        }
+        boolean goesLive = Boolean.TRUE.equals(assignments.get("published"))
+                && !postRepository.existsByIdAndPublishedTrue(postId);
+
+        // Owner and version are checked by the UPDATE itself
+        // An If-Match version takes the place of the one just read
+        int updated = patchUpdateRepository.update(Post.class, postId, "author.id", loggedInUser.getId(),
+                expectedVersion != null ? expectedVersion : stamp.version(), assignments);
+        if (updated == 0) {
+            verifyPostOwnership(postId, loggedInUser.getId());
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Post", postId);
+            }
+            throw new ObjectOptimisticLockingFailureException(Post.class, postId);
+        }
+
+        if (tags != null) {
+            postRepository.deleteTags(postId);
+            tags.forEach(tag -> postRepository.insertTag(postId, tag));
+        }
+        if (goesLive) {
+            postRepository.updatePublishedAt(postId, LocalDateTime.now(ZoneOffset.UTC));
+        }
+        if (rollupsChange) {
+            postRollupService.addPosts(List.of(postId));
+        }
+
+        if (textChanged) {
+            String newTitle = (String) assignments.getOrDefault("title", oldTitle);
+            String newContent = (String) assignments.getOrDefault("content", oldContent);
+            if (!newTitle.equals(oldTitle) || !newContent.equals(oldContent)) {
+                postRevisionService.recordRevision(postId, newTitle, newContent, oldTitle, oldContent,
+                        loggedInUser.getId());
+            }
+        }
+
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(PostListingChangedEvent.of(postId));
+        if (assignments.containsKey("slug") && !assignments.get("slug").equals(stamp.slug())) {
+            eventPublisher.publishEvent(new PostSlugChangedEvent(postId, stamp.slug()));
+        }
+
+        // Card columns only, so the response does not read the body back either
+        return postPageAssembler.assembleSummaries(postRepository.findSummariesByIdIn(List.of(postId))).get(0);
+    }
+
+    // Ties are broken by id, so the default createdAt order is exactly the one the feed indexes serve
+    private static Sort postSort(String sortBy, String sortOrder) {
+        Sort.Direction direction = sortOrder.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortBy);
+        return sortBy.equals("id") ? sort : sort.and(Sort.by(direction, "id"));
+    }
+
+    // A future publishAt keeps the post a draft until ScheduledPostPublisher publishes it
+    private void applySchedule(Post post, LocalDateTime publishAt) {
+        boolean scheduled = Post.isScheduled(publishAt);
+        post.setPublishAt(scheduled ? publishAt : null);
+        post.setPublished(!scheduled);
+    }
+
+    // The bulk update skips bean validation, so the @URL check on the entity is repeated here
+    private String validCoverImageUrl(String coverImageUrl) {
+        if (coverImageUrl == null) {
+            return null;
+        }
+        try {
+            URI.create(coverImageUrl).toURL();
+            return coverImageUrl;
+        } catch (IllegalArgumentException | java.net.MalformedURLException e) {
+            throw new APIException("Cover image URL must be valid");
+        }
+    }
+
     @Override
     @Transactional
-    public void deletePost(Long postId) throws AccessDeniedException {
+    public void deletePost(Long postId, Long expectedVersion) throws AccessDeniedException {
         // Fetch the post from the database
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", postId));
@@ -321,17 +783,21 @@ public class PostServiceImpl implements PostService {
             throw new AccessDeniedException("You do not have permission to delete this post.");
         }
 
-        // Delete associated images from S3 first
-        List<PostImage> images = postImageRepository.findByPostId(postId);
-        for (PostImage image : images) {
-            s3Service.deleteFile(image.getS3Key());
-            if (image.getThumbnailS3Key() != null) {
-                s3Service.deleteFile(image.getThumbnailS3Key());
-            }
+        if (expectedVersion != null && post.getVersion() != expectedVersion) {
+            throw new PreconditionFailedException("Post", postId);
         }
 
-        // Delete the post from the repository
-        postRepository.delete(post);
+        // Soft delete only: comments, images, bookmarks and S3 files are purged in the background
+        postRollupService.removePosts(List.of(postId));
+        if (postRepository.softDelete(postId, post.getVersion()) == 0) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Post", postId);
+            }
+            throw new ObjectOptimisticLockingFailureException(Post.class, postId);
+        }
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(PostListingChangedEvent.of(postId));
+        eventPublisher.publishEvent(new PostSlugChangedEvent(postId, post.getSlug()));
     }
 
 
@@ -362,6 +828,11 @@ public class PostServiceImpl implements PostService {
             List<PostImage> imagesToUpdate = postImageRepository.findAllById(imageIds);
             for (PostImage image : imagesToUpdate) {
                 if (image.getPost() == null || !image.getPost().getId().equals(post.getId())) {
+                    // The image leaves its previous post, whose cached details are now stale
+                    if (image.getPost() != null) {
+                        postRepository.touchActivity(image.getPost().getId());
+                        eventPublisher.publishEvent(new PostChangedEvent(image.getPost().getId()));
+                    }
                     image.setPost(post);
                 }
             }
@@ -374,26 +845,7 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "postId", postId));
 
-        PostResponse postResponse = modelMapper.map(post, PostResponse.class);
-
-        // Set author details
-        postResponse.setAuthorId(post.getAuthor().getId());
-        postResponse.setAuthorFirstName(post.getAuthor().getFirstName());
-        postResponse.setAuthorLastName(post.getAuthor().getLastName());
-
-        // Set comment count
-        postResponse.setCommentCount(commentRepository.getCommentCountByPostId(post.getId()));
-
-        // Add images to response
-        List<PostImage> images = postImageRepository.findByPostId(post.getId());
-        if (images != null && !images.isEmpty()) {
-            List<PostImageResponseDTO> imageResponses = images.stream()
-                    .map(PostImageResponseDTO::fromEntity)
-                    .collect(Collectors.toList());
-            postResponse.setImages(imageResponses);
-        }
-
-        return postResponse;
+        return postPageAssembler.assemble(List.of(post)).get(0);
     }
 
     @Override
@@ -4,6 +4,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collection;
 
 public interface S3Service {
 
@@ -45,6 +46,14 @@ public interface S3Service {
      */
     void deleteFile(String fileKey);
 
+    /**
+     * Deletes many files from S3 with one request per 1000 keys
+     *
+     * @param fileKeys The S3 object keys to delete
+     * @return The number of keys S3 reported as deleted
+     */
+    int deleteFiles(Collection<String> fileKeys);
+
     /**
      * Generate a presigned URL for temporary access
      *
@@ -7,7 +7,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -16,7 +20,10 @@ import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignReques
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -25,6 +32,9 @@ import java.util.UUID;
 @Service
 public class S3ServiceImpl implements S3Service {
 
+    // Upper limit of a single DeleteObjects request
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
 
@@ -95,6 +105,32 @@ public class S3ServiceImpl implements S3Service {
         log.info("File deleted from S3: {}", fileKey);
     }
 
+    @Override
+    public int deleteFiles(Collection<String> fileKeys) {
+        List<ObjectIdentifier> objects = fileKeys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        int deleted = 0;
+        for (int from = 0; from < objects.size(); from += MAX_KEYS_PER_DELETE) {
+            List<ObjectIdentifier> chunk = new ArrayList<>(
+                    objects.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, objects.size())));
+
+            // Quiet mode: only failures are listed in the response
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(chunk).quiet(true).build())
+                    .build());
+
+            response.errors().forEach(error ->
+                    log.warn("Failed to delete {} from S3: {} {}", error.key(), error.code(), error.message()));
+            deleted += chunk.size() - response.errors().size();
+        }
+
+        log.info("Deleted {} of {} files from S3", deleted, objects.size());
+        return deleted;
+    }
+
     @Override
     public String generatePresignedUrl(String fileKey, long expirationMinutes) {
         GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
@@ -0,0 +1,20 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.cache.SyndicationDocument;
+
+public interface SyndicationService {
+
+    /**
+     * The newest published posts as RSS 2.0, of every author when {@code authorId} is null.
+     */
+    SyndicationDocument getRssFeed(Long authorId);
+
+    /**
+     * The same posts as {@link #getRssFeed(Long)}, as Atom.
+     */
+    SyndicationDocument getAtomFeed(Long authorId);
+
+    SyndicationDocument getSitemapIndex();
+
+    SyndicationDocument getSitemap(long file);
+}
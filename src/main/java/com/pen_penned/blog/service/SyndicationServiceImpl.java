@@ -0,0 +1,272 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.cache.SyndicationCache;
+import com.pen_penned.blog.cache.SyndicationCache.Document;
+import com.pen_penned.blog.cache.SyndicationDocument;
+import com.pen_penned.blog.config.AppConstants;
+import com.pen_penned.blog.exception.ResourceNotFoundException;
+import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.projection.SyndicationEntry;
+import com.pen_penned.blog.repositories.PostRepository;
+import com.pen_penned.blog.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes feeds and sitemaps with a StAX writer fed straight from a database cursor, so no list
+ * of posts is built on the way. The output is cached by {@link SyndicationCache}.
+ */
+@Service
+public class SyndicationServiceImpl implements SyndicationService {
+
+    private static final String ATOM_NS = "http://www.w3.org/2005/Atom";
+    private static final String SITEMAP_NS = "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    // Timestamps are stored in UTC
+    private static final DateTimeFormatter RFC_822 = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private static final LocalDateTime EMPTY_FEED_UPDATED = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(XMLStreamWriter xml) throws XMLStreamException;
+    }
+
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final SyndicationCache syndicationCache;
+    private final TransactionTemplate readTransaction;
+    private final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+    @Value("${frontend.url}")
+    private String siteUrl;
+
+    // Where the sitemap files are served; the frontend is expected to proxy /api
+    @Value("${app.sitemap.base-url:${frontend.url}}")
+    private String sitemapBaseUrl;
+
+    @Value("${app.feeds.title:Pen Penned}")
+    private String siteTitle;
+
+    @Value("${app.feeds.size:50}")
+    private int feedSize;
+
+    public SyndicationServiceImpl(PostRepository postRepository,
+                                  UserRepository userRepository,
+                                  SyndicationCache syndicationCache,
+                                  PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.syndicationCache = syndicationCache;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public SyndicationDocument getRssFeed(Long authorId) {
+        return syndicationCache.get(Document.RSS, authorId, () -> {
+            String title = feedTitle(authorId);
+            return generate(xml -> {
+                xml.writeStartElement("rss");
+                xml.writeAttribute("version", "2.0");
+                xml.writeStartElement("channel");
+                element(xml, "title", title);
+                element(xml, "link", siteUrl);
+                element(xml, "description", title);
+                // Omitted for an empty feed, there is no build to date
+                LocalDateTime updatedAt = feedUpdatedAt(authorId);
+                if (updatedAt != null) {
+                    element(xml, "lastBuildDate", RFC_822.format(updatedAt.atOffset(ZoneOffset.UTC)));
+                }
+
+                try (Stream<SyndicationEntry> entries = feedEntries(authorId)) {
+                    Iterator<SyndicationEntry> iterator = entries.iterator();
+                    while (iterator.hasNext()) {
+                        SyndicationEntry entry = iterator.next();
+                        String link = postUrl(entry.slug());
+                        xml.writeStartElement("item");
+                        element(xml, "title", entry.title());
+                        element(xml, "link", link);
+                        xml.writeStartElement("guid");
+                        xml.writeAttribute("isPermaLink", "true");
+                        xml.writeCharacters(link);
+                        xml.writeEndElement();
+                        element(xml, "description", entry.summary());
+                        element(xml, "pubDate", RFC_822.format(entry.createdAt().atOffset(ZoneOffset.UTC)));
+                        xml.writeEndElement();
+                    }
+                }
+
+                xml.writeEndElement();
+                xml.writeEndElement();
+            });
+        });
+    }
+
+    @Override
+    public SyndicationDocument getAtomFeed(Long authorId) {
+        return syndicationCache.get(Document.ATOM, authorId, () -> {
+            String title = feedTitle(authorId);
+            return generate(xml -> {
+                xml.setDefaultNamespace(ATOM_NS);
+                xml.writeStartElement("feed");
+                xml.writeDefaultNamespace(ATOM_NS);
+                element(xml, "title", title);
+                element(xml, "id", authorId != null ? siteUrl + "/authors/" + authorId : siteUrl);
+                link(xml, siteUrl);
+                // Required by Atom, so an empty feed gets a fixed time rather than the current one
+                LocalDateTime updatedAt = feedUpdatedAt(authorId);
+                element(xml, "updated", atomTime(updatedAt != null ? updatedAt : EMPTY_FEED_UPDATED));
+
+                try (Stream<SyndicationEntry> entries = feedEntries(authorId)) {
+                    Iterator<SyndicationEntry> iterator = entries.iterator();
+                    while (iterator.hasNext()) {
+                        SyndicationEntry entry = iterator.next();
+                        String link = postUrl(entry.slug());
+                        xml.writeStartElement("entry");
+                        element(xml, "title", entry.title());
+                        // Stable across slug changes, unlike the link
+                        element(xml, "id", siteUrl + "/posts/" + entry.id());
+                        link(xml, link);
+                        element(xml, "published", atomTime(entry.createdAt()));
+                        element(xml, "updated", atomTime(entry.updatedAt()));
+                        xml.writeStartElement("author");
+                        element(xml, "name", entry.authorName());
+                        xml.writeEndElement();
+                        element(xml, "summary", entry.summary());
+                        xml.writeEndElement();
+                    }
+                }
+
+                xml.writeEndElement();
+            });
+        });
+    }
+
+    @Override
+    public SyndicationDocument getSitemapIndex() {
+        return syndicationCache.get(Document.SITEMAP_INDEX, null, () -> {
+            Long maxPostId = postRepository.findMaxPostId();
+            long files = maxPostId == null ? 0 : SyndicationCache.sitemapFileOf(maxPostId) + 1;
+            return generate(xml -> {
+                xml.setDefaultNamespace(SITEMAP_NS);
+                xml.writeStartElement("sitemapindex");
+                xml.writeDefaultNamespace(SITEMAP_NS);
+                for (long file = 0; file < files; file++) {
+                    xml.writeStartElement("sitemap");
+                    element(xml, "loc", sitemapBaseUrl + "/api/v1/sitemap/" + file);
+                    xml.writeEndElement();
+                }
+                xml.writeEndElement();
+            });
+        });
+    }
+
+    @Override
+    public SyndicationDocument getSitemap(long file) {
+        if (file < 0) {
+            throw new ResourceNotFoundException("Sitemap", "file", file);
+        }
+        return syndicationCache.get(Document.SITEMAP, file, () -> {
+            Long maxPostId = postRepository.findMaxPostId();
+            if (maxPostId == null || file > SyndicationCache.sitemapFileOf(maxPostId)) {
+                throw new ResourceNotFoundException("Sitemap", "file", file);
+            }
+
+            long fromId = file * AppConstants.SITEMAP_FILE_SIZE + 1;
+            long toId = fromId + AppConstants.SITEMAP_FILE_SIZE - 1;
+            return generate(xml -> {
+                xml.setDefaultNamespace(SITEMAP_NS);
+                xml.writeStartElement("urlset");
+                xml.writeDefaultNamespace(SITEMAP_NS);
+                try (Stream<Object[]> rows = postRepository.streamSitemapRows(fromId, toId)) {
+                    Iterator<Object[]> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        Object[] row = iterator.next();
+                        xml.writeStartElement("url");
+                        element(xml, "loc", postUrl((String) row[0]));
+                        element(xml, "lastmod", atomTime((LocalDateTime) row[1]));
+                        xml.writeEndElement();
+                    }
+                }
+                xml.writeEndElement();
+            });
+        });
+    }
+
+    private String feedTitle(Long authorId) {
+        if (authorId == null) {
+            return siteTitle;
+        }
+        // Fetch the author, so an unknown id is a 404 rather than an empty feed
+        User author = userRepository.findById(authorId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "userId", authorId));
+        String name = (author.getFirstName() + " " + (author.getLastName() != null ? author.getLastName() : "")).trim();
+        return name + " on " + siteTitle;
+    }
+
+    // Entries stream newest first by creation, so the latest edit among them is queried up front
+    private LocalDateTime feedUpdatedAt(Long authorId) {
+        return authorId == null
+                ? postRepository.findSyndicationUpdatedAt(feedSize)
+                : postRepository.findSyndicationUpdatedAtByAuthor(authorId, feedSize);
+    }
+
+    private Stream<SyndicationEntry> feedEntries(Long authorId) {
+        return authorId == null
+                ? postRepository.streamSyndicationEntries(Limit.of(feedSize))
+                : postRepository.streamSyndicationEntriesByAuthor(authorId, Limit.of(feedSize));
+    }
+
+    private String postUrl(String slug) {
+        return siteUrl + "/posts/" + slug;
+    }
+
+    private static String atomTime(LocalDateTime utc) {
+        return DateTimeFormatter.ISO_INSTANT.format(utc.toInstant(ZoneOffset.UTC));
+    }
+
+    private static void element(XMLStreamWriter xml, String name, String text) throws XMLStreamException {
+        xml.writeStartElement(name);
+        if (text != null) {
+            xml.writeCharacters(text);
+        }
+        xml.writeEndElement();
+    }
+
+    private static void link(XMLStreamWriter xml, String href) throws XMLStreamException {
+        xml.writeEmptyElement("link");
+        xml.writeAttribute("href", href);
+    }
+
+    // The cursors need a transaction to stay open while the document is written
+    private byte[] generate(XmlBody body) {
+        return readTransaction.execute(status -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                XMLStreamWriter xml = xmlOutputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+                xml.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+                body.write(xml);
+                xml.writeEndDocument();
+                xml.close();
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException("Could not write XML document", e);
+            }
+            return out.toByteArray();
+        });
+    }
+}
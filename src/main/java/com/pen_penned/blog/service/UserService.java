@@ -2,6 +2,7 @@ package com.pen_penned.blog.service;
 
 import com.pen_penned.blog.dto.request.LocalUserRequestDTO;
 import com.pen_penned.blog.dto.request.OAuth2UserRequestDTO;
+import com.pen_penned.blog.mapper.UserMapper;
 import com.pen_penned.blog.model.AppRole;
 import com.pen_penned.blog.model.AuthProvider;
 import com.pen_penned.blog.model.Role;
@@ -9,7 +10,6 @@ import com.pen_penned.blog.model.User;
 import com.pen_penned.blog.repositories.RoleRepository;
 import com.pen_penned.blog.repositories.UserRepository;
 import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -22,24 +22,24 @@ public class UserService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
 
     public UserService(
             UserRepository userRepository,
             RoleRepository roleRepository,
             PasswordEncoder passwordEncoder,
-            ModelMapper modelMapper) {
+            UserMapper userMapper) {
         this.userRepository = userRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
-        this.modelMapper = modelMapper;
+        this.userMapper = userMapper;
     }
 
     @Transactional
     public User createLocalUser(LocalUserRequestDTO localUserRequestDTO) {
         // Map DTO to entity
-        User user = modelMapper.map(localUserRequestDTO, User.class);
+        User user = userMapper.toEntity(localUserRequestDTO);
 
         // Encode password
         user.setPassword(passwordEncoder.encode(localUserRequestDTO.getPassword()));
@@ -57,7 +57,7 @@ public class UserService {
             AuthProvider provider,
             String providerId) {
         // Map DTO to entity
-        User user = modelMapper.map(oauth2UserRequestDTO, User.class);
+        User user = userMapper.toEntity(oauth2UserRequestDTO);
 
         // Set OAuth provider details
         user.setProvider(provider);
@@ -0,0 +1,63 @@
+package com.pen_penned.blog.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a stream line by line without ever holding more than one line of bounded length.
+ * <p>
+ * A line longer than the limit is skipped up to its end instead of being buffered, and
+ * {@link #lastLineTooLong()} reports it, so one oversized record cannot exhaust memory or end
+ * the rest of the stream.
+ */
+public final class BoundedLineReader implements Closeable {
+
+    private final Reader reader;
+    private final int maxLength;
+    private final StringBuilder line = new StringBuilder();
+    private boolean lastLineTooLong;
+
+    // The reader should be buffered; it is read one character at a time
+    public BoundedLineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @return The next line without its terminator, empty if it was too long, or null at the end
+     */
+    public String readLine() throws IOException {
+        line.setLength(0);
+        lastLineTooLong = false;
+
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n') {
+            if (line.length() < maxLength) {
+                line.append((char) c);
+            } else {
+                lastLineTooLong = true;
+            }
+            c = reader.read();
+        }
+
+        if (lastLineTooLong) {
+            line.setLength(0);
+        } else if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return line.toString();
+    }
+
+    public boolean lastLineTooLong() {
+        return lastLineTooLong;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
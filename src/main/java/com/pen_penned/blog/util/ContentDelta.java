@@ -0,0 +1,72 @@
+package com.pen_penned.blog.util;
+
+import com.github.difflib.DiffUtils;
+import com.github.difflib.patch.AbstractDelta;
+import com.github.difflib.patch.Patch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Line-based delta between two versions of a text, in a compact plain-text form.
+ * <p>
+ * Each change is written as a header {@code @<position>,<removed>,<added>} followed by the
+ * added lines, where position and removed count refer to lines of the base text. Unchanged
+ * lines are never stored, so an edit costs roughly the size of the lines it touched.
+ */
+public final class ContentDelta {
+
+    private ContentDelta() {
+    }
+
+    public static String diff(String base, String target) {
+        Patch<String> patch = DiffUtils.diff(lines(base), lines(target));
+
+        StringBuilder delta = new StringBuilder();
+        for (AbstractDelta<String> change : patch.getDeltas()) {
+            List<String> added = change.getTarget().getLines();
+            delta.append('@').append(change.getSource().getPosition())
+                    .append(',').append(change.getSource().size())
+                    .append(',').append(added.size())
+                    .append('\n');
+            for (String line : added) {
+                delta.append(line).append('\n');
+            }
+        }
+        return delta.toString();
+    }
+
+    public static String apply(String base, String delta) {
+        List<String> source = lines(base);
+        List<String> result = new ArrayList<>(source.size());
+
+        int copied = 0;
+        int offset = 0;
+        while (offset < delta.length()) {
+            int headerEnd = delta.indexOf('\n', offset);
+            String[] header = delta.substring(offset + 1, headerEnd).split(",");
+            offset = headerEnd + 1;
+
+            int position = Integer.parseInt(header[0]);
+            int removed = Integer.parseInt(header[1]);
+            int added = Integer.parseInt(header[2]);
+
+            // Unchanged lines up to the change, then the replacement lines
+            result.addAll(source.subList(copied, position));
+            copied = position + removed;
+            for (int i = 0; i < added; i++) {
+                int lineEnd = delta.indexOf('\n', offset);
+                result.add(delta.substring(offset, lineEnd));
+                offset = lineEnd + 1;
+            }
+        }
+        result.addAll(source.subList(copied, source.size()));
+
+        return String.join("\n", result);
+    }
+
+    // Splitting on \n alone keeps any \r in the lines, so joining restores the text exactly
+    private static List<String> lines(String text) {
+        return List.of(text.split("\n", -1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.pen_penned.blog.util;
+
+import com.pen_penned.blog.config.AppConstants;
+import org.commonmark.node.AbstractVisitor;
+import org.commonmark.node.Block;
+import org.commonmark.node.Code;
+import org.commonmark.node.FencedCodeBlock;
+import org.commonmark.node.HardLineBreak;
+import org.commonmark.node.HtmlBlock;
+import org.commonmark.node.HtmlInline;
+import org.commonmark.node.Image;
+import org.commonmark.node.IndentedCodeBlock;
+import org.commonmark.node.Node;
+import org.commonmark.node.SoftLineBreak;
+import org.commonmark.node.Text;
+import org.commonmark.parser.Parser;
+
+import java.util.regex.Pattern;
+
+/**
+ * Listing metadata derived from a post body: a plain-text excerpt, the word count and an
+ * estimated reading time. Computed when content is written so listings never read the body.
+ * <p>
+ * The body is Markdown, so it is parsed and only its text is kept: no heading or emphasis
+ * markers, link text without its URL, and no images or raw HTML.
+ */
+public record ContentStats(String excerpt, int wordCount, int readingTimeMinutes) {
+
+    public static final int WORDS_PER_MINUTE = 200;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Immutable and thread-safe, like the one MarkdownRenderer uses
+    private static final Parser PARSER = Parser.builder().build();
+
+    public static ContentStats of(String content) {
+        String text = content == null ? "" : WHITESPACE.matcher(plainText(content)).replaceAll(" ").strip();
+
+        int wordCount = countWords(text);
+        int readingTimeMinutes = (wordCount + WORDS_PER_MINUTE - 1) / WORDS_PER_MINUTE;
+
+        return new ContentStats(excerpt(text), wordCount, readingTimeMinutes);
+    }
+
+    // Cut on a word boundary where possible; the ellipsis keeps it within EXCERPT_LENGTH
+    private static String excerpt(String text) {
+        if (text.length() <= AppConstants.EXCERPT_LENGTH) {
+            return text;
+        }
+
+        int end = text.lastIndexOf(' ', AppConstants.EXCERPT_LENGTH - 1);
+        if (end <= 0) {
+            end = AppConstants.EXCERPT_LENGTH - 1;
+        }
+        if (Character.isHighSurrogate(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end).stripTrailing() + "…";
+    }
+
+    private static String plainText(String markdown) {
+        PlainTextVisitor visitor = new PlainTextVisitor();
+        PARSER.parse(markdown).accept(visitor);
+        return visitor.text.toString();
+    }
+
+    // Collects the literal text; the whitespace it adds between blocks is collapsed afterwards
+    private static final class PlainTextVisitor extends AbstractVisitor {
+
+        private final StringBuilder text = new StringBuilder();
+
+        @Override
+        public void visit(Text node) {
+            text.append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(Code node) {
+            text.append(node.getLiteral());
+        }
+
+        @Override
+        public void visit(FencedCodeBlock node) {
+            text.append(' ').append(node.getLiteral()).append(' ');
+        }
+
+        @Override
+        public void visit(IndentedCodeBlock node) {
+            text.append(' ').append(node.getLiteral()).append(' ');
+        }
+
+        @Override
+        public void visit(SoftLineBreak node) {
+            text.append(' ');
+        }
+
+        @Override
+        public void visit(HardLineBreak node) {
+            text.append(' ');
+        }
+
+        // Alt text describes the image rather than being part of the prose
+        @Override
+        public void visit(Image node) {
+        }
+
+        @Override
+        public void visit(HtmlInline node) {
+        }
+
+        @Override
+        public void visit(HtmlBlock node) {
+        }
+
+        // Paragraphs, headings and list items end with a space; inline nodes such as links do not
+        @Override
+        protected void visitChildren(Node parent) {
+            super.visitChildren(parent);
+            if (parent instanceof Block) {
+                text.append(' ');
+            }
+        }
+    }
+
+    // Tokens made only of punctuation or markup, such as "-" or "##", are not words
+    private static int countWords(String text) {
+        int words = 0;
+        boolean inWord = false;
+        boolean hasLetter = false;
+
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || text.charAt(i) == ' ') {
+                if (inWord && hasLetter) {
+                    words++;
+                }
+                inWord = false;
+                hasLetter = false;
+            } else {
+                inWord = true;
+                hasLetter |= Character.isLetterOrDigit(text.charAt(i));
+            }
+        }
+        return words;
+    }
+}
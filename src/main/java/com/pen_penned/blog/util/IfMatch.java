@@ -0,0 +1,51 @@
+package com.pen_penned.blog.util;
+
+import com.pen_penned.blog.exception.APIException;
+import com.pen_penned.blog.exception.PreconditionFailedException;
+
+/**
+ * Reads the version a write is conditional on from an {@code If-Match} header.
+ * <p>
+ * Accepts either a resource's own ETag ({@code "<id>-<version>-..."}, as sent on post GETs)
+ * or the bare {@code version} from a response body ({@code "<version>"}). Only the version is
+ * compared, so a post edit does not fail just because a comment landed in between. The
+ * services put it in the write's {@code WHERE} clause rather than comparing against a loaded
+ * row.
+ */
+public final class IfMatch {
+
+    private IfMatch() {
+    }
+
+    /**
+     * @return The expected version, or null when there is no header or it is {@code *}
+     */
+    public static Long expectedVersion(String header, String resourceName, Long resourceId) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.contains(",")) {
+            throw new APIException("If-Match must carry a single entity tag");
+        }
+
+        // If-Match uses strong comparison, which a weak tag never passes
+        if (tag.startsWith("W/") || tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new PreconditionFailedException(resourceName, resourceId);
+        }
+
+        String[] parts = tag.substring(1, tag.length() - 1).split("-");
+        try {
+            if (parts.length == 1) {
+                return Long.parseLong(parts[0]);
+            }
+            if (Long.parseLong(parts[0]) != resourceId) {
+                throw new PreconditionFailedException(resourceName, resourceId);
+            }
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            // Not a tag this API ever issued, so it cannot match
+            throw new PreconditionFailedException(resourceName, resourceId);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.pen_penned.blog.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pen_penned.blog.exception.APIException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads a JSON Merge Patch document (RFC 7396): a member that is present replaces the field,
+ * an explicit {@code null} clears it and an absent member leaves it untouched.
+ */
+public final class MergePatch {
+
+    private final JsonNode document;
+
+    private MergePatch(JsonNode document) {
+        this.document = document;
+    }
+
+    public static MergePatch of(JsonNode document, Set<String> patchableFields) {
+        if (document == null || !document.isObject()) {
+            throw new APIException("A merge patch must be a JSON object");
+        }
+
+        document.fieldNames().forEachRemaining(field -> {
+            if (!patchableFields.contains(field)) {
+                throw new APIException("Field cannot be patched: " + field);
+            }
+        });
+        return new MergePatch(document);
+    }
+
+    public boolean has(String field) {
+        return document.has(field);
+    }
+
+    public boolean isEmpty() {
+        return document.isEmpty();
+    }
+
+    // Null when the patch clears the field
+    public String text(String field) {
+        JsonNode value = document.get(field);
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isTextual()) {
+            throw new APIException(field + " must be a string");
+        }
+        return value.asText();
+    }
+
+    public String requiredText(String field) {
+        String value = text(field);
+        if (value == null || value.isBlank()) {
+            throw new APIException(field + " cannot be empty");
+        }
+        return value;
+    }
+
+    // ISO-8601 local date-time, null when the patch clears the field
+    public LocalDateTime dateTime(String field) {
+        String value = text(field);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new APIException(field + " must be an ISO-8601 date-time");
+        }
+    }
+
+    public boolean requiredBoolean(String field) {
+        JsonNode value = document.get(field);
+        if (value == null || !value.isBoolean()) {
+            throw new APIException(field + " must be true or false");
+        }
+        return value.asBoolean();
+    }
+
+    // A null list clears the collection
+    public List<String> textList(String field) {
+        JsonNode value = document.get(field);
+        List<String> values = new ArrayList<>();
+        if (value == null || value.isNull()) {
+            return values;
+        }
+        if (!value.isArray()) {
+            throw new APIException(field + " must be an array of strings");
+        }
+        for (JsonNode element : value) {
+            if (!element.isTextual()) {
+                throw new APIException(field + " must be an array of strings");
+            }
+            values.add(element.asText());
+        }
+        return values;
+    }
+}
@@ -0,0 +1,64 @@
+package com.pen_penned.blog.util;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.pen_penned.blog.exception.APIException;
+import org.springframework.data.domain.Slice;
+
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * How a paged listing reports its total.
+ * <p>
+ * {@code none} reads one row past the page to work out {@code lastPage} and never counts,
+ * {@code estimated} uses planner statistics where the listing has them, and {@code exact}
+ * runs a {@code COUNT}. The last page always carries an exact total since the page itself
+ * shows it.
+ */
+public enum PageTotals {
+
+    NONE,
+    ESTIMATED,
+    EXACT;
+
+    @JsonValue
+    public String value() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static PageTotals from(String value) {
+        for (PageTotals totals : values()) {
+            if (totals.value().equalsIgnoreCase(value)) {
+                return totals;
+            }
+        }
+        throw new APIException("totals must be one of none, estimated or exact");
+    }
+
+    /**
+     * Works out the total for a slice, querying only when the slice cannot tell by itself.
+     *
+     * @param slice          The page that was read
+     * @param exactCount     Runs the {@code COUNT} query
+     * @param estimatedCount Returns the estimate, falling back to a count where none exists
+     * @return The total, or null for {@link #NONE}
+     */
+    public Long resolve(Slice<?> slice, LongSupplier exactCount, LongSupplier estimatedCount) {
+        if (this == NONE) {
+            return null;
+        }
+
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        if (!slice.hasNext() && (slice.hasContent() || slice.getNumber() == 0)) {
+            return seen;
+        }
+
+        if (this == EXACT) {
+            return exactCount.getAsLong();
+        }
+
+        // Statistics lag behind writes, but never report fewer rows than the page has proven exist
+        long proven = slice.hasNext() ? seen + 1 : seen;
+        return Math.max(estimatedCount.getAsLong(), proven);
+    }
+}
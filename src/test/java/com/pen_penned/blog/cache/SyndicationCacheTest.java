@@ -0,0 +1,57 @@
+package com.pen_penned.blog.cache;
+
+import com.pen_penned.blog.cache.SyndicationCache.Document;
+import com.pen_penned.blog.config.AppConstants;
+import com.pen_penned.blog.event.PostListingChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SyndicationCacheTest {
+
+    private final SyndicationCache cache =
+            new SyndicationCache(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), Duration.ofHours(1));
+
+    private final AtomicInteger generated = new AtomicInteger();
+
+    @Test
+    void listingChangeDropsFeedsButOnlyTheSitemapFileOfThePost() {
+        warm();
+        assertEquals(4, generated.get());
+
+        // Lives in the second sitemap file
+        cache.onListingChanged(PostListingChangedEvent.of(AppConstants.SITEMAP_FILE_SIZE + 1L));
+        warm();
+
+        // RSS, the index and file 1 are regenerated; file 0 is not
+        assertEquals(7, generated.get());
+    }
+
+    @Test
+    void eTagFollowsTheBytes() {
+        SyndicationDocument first = SyndicationDocument.of("<rss/>".getBytes(StandardCharsets.UTF_8));
+        SyndicationDocument same = SyndicationDocument.of("<rss/>".getBytes(StandardCharsets.UTF_8));
+        SyndicationDocument other = SyndicationDocument.of("<feed/>".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(first.eTag(), same.eTag());
+        assertNotEquals(first.eTag(), other.eTag());
+    }
+
+    private void warm() {
+        cache.get(Document.RSS, null, this::generate);
+        cache.get(Document.SITEMAP_INDEX, null, this::generate);
+        cache.get(Document.SITEMAP, 0L, this::generate);
+        cache.get(Document.SITEMAP, 1L, this::generate);
+    }
+
+    private byte[] generate() {
+        return ("document " + generated.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,170 @@
+package com.pen_penned.blog.repositories;
+
+import com.pen_penned.blog.config.AppConstants;
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.service.PostService;
+import com.pen_penned.blog.util.PageTotals;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.pen_penned.blog.repositories.PublishedFeedIndexTest$CapturedSql")
+@Transactional
+class PublishedFeedIndexTest {
+
+    private static final List<String> capturedSql = new CopyOnWriteArrayList<>();
+
+    // Records the SQL of every statement Hibernate prepares, so the tests explain exactly what the app sends
+    public static class CapturedSql implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            capturedSql.add(sql);
+            return sql;
+        }
+
+        static String first(String fragment) {
+            return capturedSql.stream()
+                    .filter(sql -> sql.toLowerCase().contains(fragment))
+                    .findFirst()
+                    .orElseGet(() -> fail("No statement with " + fragment + " in " + capturedSql));
+        }
+    }
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long authorId;
+
+    @BeforeEach
+    void setup() {
+        User author = User.createUser("Feed", "Tester",
+                "feed-" + UUID.randomUUID() + "@example.com", "secret");
+        entityManager.persist(author);
+        authorId = author.getId();
+
+        for (int i = 0; i < 200; i++) {
+            entityManager.persist(Post.builder()
+                    .title("Feed index post " + i)
+                    .content("Content " + i)
+                    .published(i % 4 != 0)
+                    .author(author)
+                    .build());
+        }
+        entityManager.flush();
+
+        // The test tables are tiny, so make the planner pick indexes whenever it can
+        jdbcTemplate.execute("ANALYZE posts");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+    }
+
+    // Every query is captured as Hibernate renders it, the soft-delete restriction included, then explained
+
+    @Test
+    void firstFeedPageIsAnOrderedRangeScanOnThePartialIndex() {
+        capturedSql.clear();
+        postRepository.findFeedStampFirstPage(Limit.of(21));
+
+        assertRangeScan(explainCaptured(21), "idx_posts_visible_feed");
+    }
+
+    @Test
+    void nextFeedPageStartsTheRangeScanAtTheCursor() {
+        LocalDateTime cursorCreatedAt = LocalDateTime.now(ZoneOffset.UTC);
+        capturedSql.clear();
+        postRepository.findFeedStampPageAfter(cursorCreatedAt, 100L, Limit.of(21));
+
+        String plan = explainCaptured(cursorCreatedAt, 100L, 21);
+        assertRangeScan(plan, "idx_posts_visible_feed");
+        assertKeysetStart(plan);
+    }
+
+    // The offset listing with its default sort, as GET /posts sends it
+    @Test
+    void defaultPostListingIsAnOrderedRangeScanOnThePartialIndex() {
+        capturedSql.clear();
+        postService.getPostPageStamp(0, 20, AppConstants.SORT_POSTS_BY, AppConstants.SORT_POSTS_DIR,
+                PageTotals.NONE);
+
+        assertRangeScan(explainCaptured(21), "idx_posts_visible_feed");
+    }
+
+    // GET /users/{id}/posts with its default sort
+    @Test
+    void defaultAuthorListingIsAnOrderedRangeScanOnTheAuthorIndex() {
+        capturedSql.clear();
+        postService.getPostSummariesByUserId(authorId, 0, 20, AppConstants.SORT_POSTS_BY,
+                AppConstants.SORT_POSTS_DIR);
+
+        assertRangeScan(explainCaptured(authorId, 20), "idx_posts_author_visible_feed");
+    }
+
+    @Test
+    void publishedCountIsAnIndexOnlyScan() {
+        capturedSql.clear();
+        postRepository.countByPublishedTrue();
+
+        String plan = explain(CapturedSql.first("count("));
+        assertTrue(plan.contains("Index Only Scan"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    // The page select of the captured statements, explained with its parameters bound in order
+    private String explainCaptured(Object... parameters) {
+        String sql = CapturedSql.first("order by");
+        assertEquals(parameters.length, sql.chars().filter(c -> c == '?').count(), sql);
+        return explain(sql, parameters);
+    }
+
+    private String explain(String sql, Object... parameters) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, parameters);
+        return String.join("\n", lines);
+    }
+
+    // Rows come off the index already in feed order, so there is neither a table scan nor a sort
+    private void assertRangeScan(String plan, String indexName) {
+        assertTrue(plan.contains(indexName), plan);
+        assertTrue(plan.contains("Index Scan") || plan.contains("Index Only Scan"), plan);
+        assertFalse(plan.contains("Seq Scan"), plan);
+        assertFalse(plan.contains("Sort"), plan);
+    }
+
+    // The cursor bounds the scan itself; a Filter would mean the index is walked from the top
+    private void assertKeysetStart(String plan) {
+        String indexCond = plan.lines()
+                .filter(line -> line.contains("Index Cond"))
+                .findFirst()
+                .orElseGet(() -> fail("No Index Cond in plan:\n" + plan));
+        assertTrue(indexCond.contains("created_at") && indexCond.contains("post_id"), plan);
+        assertFalse(plan.contains("Filter"), plan);
+    }
+}
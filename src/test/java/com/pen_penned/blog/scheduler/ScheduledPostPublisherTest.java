@@ -0,0 +1,151 @@
+package com.pen_penned.blog.scheduler;
+
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.repositories.PostRepository;
+import com.pen_penned.blog.service.PostRollupService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Not transactional: every dispatcher needs to see the committed posts from its own connection
+@SpringBootTest(properties = {
+        "app.jobs.scheduled-publish.batch-size=7",
+        "app.jobs.scheduled-publish.initial-delay-ms=3600000"
+})
+class ScheduledPostPublisherTest {
+
+    private static final int POSTS = 120;
+    private static final int DISPATCHERS = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ScheduledPostPublisher publisher;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostRollupService postRollupService;
+
+    private Long authorId;
+
+    @BeforeEach
+    void setup() {
+        LocalDateTime due = LocalDateTime.now(ZoneOffset.UTC).minusMinutes(1);
+        LocalDateTime later = LocalDateTime.now(ZoneOffset.UTC).plusDays(1);
+
+        authorId = transactionTemplate.execute(status -> {
+            User author = User.createUser("Schedule", "Tester",
+                    "schedule-" + UUID.randomUUID() + "@example.com", "secret");
+            entityManager.persist(author);
+
+            for (int i = 0; i < POSTS; i++) {
+                entityManager.persist(Post.builder()
+                        .title("Scheduled post " + i)
+                        .content("Content " + i)
+                        .published(false)
+                        .publishAt(due)
+                        .author(author)
+                        .build());
+            }
+            // Not due yet, so no dispatcher may touch it
+            entityManager.persist(Post.builder()
+                    .title("Future post")
+                    .content("Content")
+                    .published(false)
+                    .publishAt(later)
+                    .author(author)
+                    .build());
+            // Written after the scheduled posts, but live before them
+            entityManager.persist(Post.builder()
+                    .title("Published post")
+                    .content("Content")
+                    .published(true)
+                    .author(author)
+                    .build());
+            return author.getId();
+        });
+    }
+
+    @AfterEach
+    void cleanup() {
+        jdbcTemplate.update("DELETE FROM posts WHERE user_id = ?", authorId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", authorId);
+
+        // The dispatcher counted the posts it published, so take them out of the shared rollups again
+        postRollupService.rebuild();
+    }
+
+    @Test
+    void concurrentDispatchersPublishEveryDuePostExactlyOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(DISPATCHERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < DISPATCHERS; i++) {
+                Callable<Integer> dispatcher = () -> {
+                    start.await();
+                    return publisher.publishDue();
+                };
+                results.add(executor.submit(dispatcher));
+            }
+            start.countDown();
+
+            int published = 0;
+            for (Future<Integer> result : results) {
+                published += result.get();
+            }
+            assertEquals(POSTS, published);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // A second publish would have bumped the version twice
+        assertEquals(POSTS, count("is_published = true AND publish_at IS NULL AND version = 1"));
+        assertEquals(1, count("is_published = false AND publish_at IS NOT NULL AND version = 0"));
+    }
+
+    @Test
+    void publishedPostLeadsTheFeed() {
+        publisher.publishDue();
+
+        Long newestPostId = postRepository.findFeedStampFirstPage(Limit.of(1)).get(0).postId();
+        String title = jdbcTemplate.queryForObject(
+                "SELECT title FROM posts WHERE post_id = ?", String.class, newestPostId);
+        assertTrue(title.startsWith("Scheduled post"), "Feed starts with " + title);
+    }
+
+    private int count(String condition) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM posts WHERE user_id = ? AND " + condition, Integer.class, authorId);
+    }
+}
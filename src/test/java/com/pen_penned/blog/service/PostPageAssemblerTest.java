@@ -0,0 +1,95 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.model.Comment;
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.PostImage;
+import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.repositories.PostRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PostPageAssemblerTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostPageAssembler postPageAssembler;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        User author = User.createUser("Page", "Tester",
+                "page-" + UUID.randomUUID() + "@example.com", "secret");
+        entityManager.persist(author);
+
+        for (int i = 0; i < 40; i++) {
+            Post post = Post.builder()
+                    .title("Assembler post " + i)
+                    .content("Content " + i)
+                    .published(true)
+                    .tags(List.of("java", "tag-" + i))
+                    .author(author)
+                    .build();
+            entityManager.persist(post);
+
+            entityManager.persist(Comment.builder().content("First").author(author).post(post).build());
+            entityManager.persist(Comment.builder().content("Second").author(author).post(post).build());
+
+            entityManager.persist(PostImage.builder()
+                    .originalFilename("image-" + i + ".jpg")
+                    .contentType("image/jpeg")
+                    .fileSize(1024L)
+                    .s3Key("test/image-" + i + ".jpg")
+                    .s3Url("https://example.com/image-" + i + ".jpg")
+                    .post(post)
+                    .build());
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void queryCountStaysFlatAsPageSizeGrows() {
+        long smallPageQueries = countQueriesForPage(5);
+        long largePageQueries = countQueriesForPage(40);
+
+        assertEquals(smallPageQueries, largePageQueries);
+    }
+
+    private long countQueriesForPage(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<Post> page = postRepository.findAll(
+                PageRequest.of(0, pageSize, Sort.by("id").descending()));
+        postPageAssembler.assemble(page.getContent());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
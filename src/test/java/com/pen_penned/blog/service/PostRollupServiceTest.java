@@ -0,0 +1,74 @@
+package com.pen_penned.blog.service;
+
+import com.pen_penned.blog.model.Post;
+import com.pen_penned.blog.model.TagCount;
+import com.pen_penned.blog.model.User;
+import com.pen_penned.blog.repositories.TagCountRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@Transactional
+class PostRollupServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PostRollupService postRollupService;
+
+    @Autowired
+    private TagCountRepository tagCountRepository;
+
+    private final String tag = "rollup-" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        User author = User.createUser("Rollup", "Tester",
+                "rollup-" + UUID.randomUUID() + "@example.com", "secret");
+        entityManager.persist(author);
+
+        for (int i = 0; i < 3; i++) {
+            Post post = Post.builder()
+                    .title("Rollup post " + i)
+                    .content("Content " + i)
+                    .published(i < 2)
+                    .tags(List.of(tag, tag))
+                    .author(author)
+                    .build();
+            entityManager.persist(post);
+            postIds.add(post.getId());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void countsPublishedPostsOnceAndMatchesRebuild() {
+        postRollupService.addPosts(postIds);
+        assertEquals(2, tagCount());
+
+        postRollupService.removePosts(postIds.subList(0, 1));
+        assertEquals(1, tagCount());
+
+        // The drift from the removal is repaired from the posts themselves
+        postRollupService.rebuild();
+        assertEquals(2, tagCount());
+    }
+
+    private long tagCount() {
+        entityManager.clear();
+        return tagCountRepository.findById(tag).map(TagCount::getPostCount).orElse(0L);
+    }
+}
@@ -0,0 +1,40 @@
+package com.pen_penned.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedLineReaderTest {
+
+    @Test
+    void readsLinesWithEitherTerminator() throws IOException {
+        BoundedLineReader reader = new BoundedLineReader(new StringReader("first\r\nsecond\n\nlast"), 10);
+
+        assertEquals("first", reader.readLine());
+        assertEquals("second", reader.readLine());
+        assertEquals("", reader.readLine());
+        assertEquals("last", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void skipsAnOverlongLineAndCarriesOn() throws IOException {
+        BoundedLineReader reader = new BoundedLineReader(new StringReader("short\n" + "x".repeat(50) + "\nnext\n"), 10);
+
+        assertEquals("short", reader.readLine());
+        assertFalse(reader.lastLineTooLong());
+
+        assertEquals("", reader.readLine());
+        assertTrue(reader.lastLineTooLong());
+
+        assertEquals("next", reader.readLine());
+        assertFalse(reader.lastLineTooLong());
+        assertNull(reader.readLine());
+    }
+}
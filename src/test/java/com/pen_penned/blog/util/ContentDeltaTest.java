@@ -0,0 +1,45 @@
+package com.pen_penned.blog.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentDeltaTest {
+
+    @Test
+    void applyingTheDeltaRestoresTheTarget() {
+        String base = "# Title\r\n\nFirst paragraph.\nSecond paragraph.\nThird paragraph.\n";
+        String target = "# New title\r\n\nFirst paragraph.\nThird paragraph.\nFourth paragraph.";
+
+        assertEquals(target, ContentDelta.apply(base, ContentDelta.diff(base, target)));
+        assertEquals(base, ContentDelta.apply(base, ContentDelta.diff(base, base)));
+        assertEquals("", ContentDelta.apply(base, ContentDelta.diff(base, "")));
+    }
+
+    @Test
+    void smallEditsOfLongContentStaySmall() {
+        List<String> revisions = new ArrayList<>();
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            content.append("Line ").append(i).append(" of a long post.\n");
+        }
+        revisions.add(content.toString());
+        for (int edit = 1; edit <= 20; edit++) {
+            revisions.add(revisions.get(edit - 1).replace("Line " + (edit * 20) + " ", "Edited line " + edit + " "));
+        }
+
+        // Rebuild the last revision from the first by chaining every delta
+        String rebuilt = revisions.get(0);
+        for (int i = 1; i < revisions.size(); i++) {
+            String delta = ContentDelta.diff(revisions.get(i - 1), revisions.get(i));
+            assertTrue(delta.length() < 100, "delta of one changed line should be tiny, was " + delta.length());
+            rebuilt = ContentDelta.apply(rebuilt, delta);
+        }
+
+        assertEquals(revisions.get(revisions.size() - 1), rebuilt);
+    }
+}
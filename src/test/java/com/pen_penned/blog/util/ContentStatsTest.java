@@ -0,0 +1,40 @@
+package com.pen_penned.blog.util;
+
+import com.pen_penned.blog.config.AppConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentStatsTest {
+
+    @Test
+    void shortContentIsItsOwnExcerpt() {
+        ContentStats stats = ContentStats.of("  Hello,\n\nworld  -  again ");
+
+        assertEquals("Hello, world - again", stats.excerpt());
+        assertEquals(3, stats.wordCount());
+        assertEquals(1, stats.readingTimeMinutes());
+    }
+
+    @Test
+    void markdownIsReducedToItsText() {
+        ContentStats stats = ContentStats.of("## Heading\n\nSome **bold** text, a [link](https://example.com).\n\n" +
+                "![diagram](https://example.com/d.png)\n\n- one\n- `two`");
+
+        assertEquals("Heading Some bold text, a link. one two", stats.excerpt());
+        assertEquals(8, stats.wordCount());
+    }
+
+    @Test
+    void longContentIsCutOnAWordBoundary() {
+        String content = "word ".repeat(450);
+
+        ContentStats stats = ContentStats.of(content);
+
+        assertTrue(stats.excerpt().length() <= AppConstants.EXCERPT_LENGTH);
+        assertTrue(stats.excerpt().endsWith("word…"));
+        assertEquals(450, stats.wordCount());
+        assertEquals(3, stats.readingTimeMinutes());
+    }
+}
@@ -0,0 +1,31 @@
+package com.pen_penned.blog.util;
+
+import com.pen_penned.blog.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IfMatchTest {
+
+    @Test
+    void missingOrWildcardHeaderIsUnconditional() {
+        assertNull(IfMatch.expectedVersion(null, "Post", 7L));
+        assertNull(IfMatch.expectedVersion("*", "Post", 7L));
+    }
+
+    @Test
+    void acceptsBareVersionAndResourceETag() {
+        assertEquals(3L, IfMatch.expectedVersion("\"3\"", "Post", 7L));
+        assertEquals(3L, IfMatch.expectedVersion("\"7-3-12-1700000000000\"", "Post", 7L));
+        assertEquals(3L, IfMatch.expectedVersion("\"7-3-12-1700000000000-html\"", "Post", 7L));
+    }
+
+    @Test
+    void tagsThatCannotMatchFailThePrecondition() {
+        assertThrows(PreconditionFailedException.class, () -> IfMatch.expectedVersion("W/\"3\"", "Post", 7L));
+        assertThrows(PreconditionFailedException.class, () -> IfMatch.expectedVersion("\"8-3-0-0\"", "Post", 7L));
+        assertThrows(PreconditionFailedException.class, () -> IfMatch.expectedVersion("\"abc\"", "Post", 7L));
+    }
+}